@@ -0,0 +1,126 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 17:02.
+ */
+package com.alianga.valid.validator;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>字节数组或 {@link ByteBuffer} 上的只读字符序列视图</p>
+ * 每个字节对应一个字符，不复制数据，用于在不解码为 {@link String} 的情况下校验 ASCII 输入。
+ * 调用者需要先用 {@link #isAscii(byte[], int, int)} 或 {@link #isAscii(ByteBuffer, int, int)} 确认内容为 ASCII。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 17:02
+ */
+final class AsciiSequence implements CharSequence {
+
+    private final byte[] array;
+
+    private final ByteBuffer buffer;
+
+    private final int offset;
+
+    private final int length;
+
+    /**
+     * @param array  字节数组
+     * @param offset 起始位置
+     * @param length 长度
+     */
+    AsciiSequence(byte[] array, int offset, int length) {
+        this.array = array;
+        this.buffer = null;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * @param buffer 字节缓冲区，按绝对位置读取，不改变其 position
+     * @param offset 起始的绝对位置
+     * @param length 长度
+     */
+    AsciiSequence(ByteBuffer buffer, int offset, int length) {
+        if (buffer.hasArray()) {
+            this.array = buffer.array();
+            this.buffer = null;
+            this.offset = buffer.arrayOffset() + offset;
+        } else {
+            this.array = null;
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (array != null) {
+            return (char) (array[offset + index] & 0xFF);
+        }
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (array != null) {
+            return new AsciiSequence(array, offset + start, end - start);
+        }
+        return new AsciiSequence(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        if (array != null) {
+            return new String(array, offset, length, StandardCharsets.US_ASCII);
+        }
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @return 如果 {@code [offset, offset + length)} 区间内全部是 ASCII 字节则返回 true
+     */
+    static boolean isAscii(byte[] array, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (array[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return 如果 {@code [offset, offset + length)} 绝对位置区间内全部是 ASCII 字节则返回 true
+     */
+    static boolean isAscii(ByteBuffer buffer, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 将 {@code [offset, offset + length)} 绝对位置区间按 UTF-8 解码
+     */
+    static String decode(ByteBuffer buffer, int offset, int length) {
+        final ByteBuffer slice = buffer.duplicate();
+        // 通过 Buffer 调用，避免在 JDK 9+ 上编译后引用 ByteBuffer 的协变返回方法
+        ((Buffer) slice).limit(offset + length);
+        ((Buffer) slice).position(offset);
+        return StandardCharsets.UTF_8.decode(slice).toString();
+    }
+}
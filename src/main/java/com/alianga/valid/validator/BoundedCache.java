@@ -0,0 +1,205 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 15:40.
+ */
+package com.alianga.valid.validator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>有界的并发缓存</p>
+ * 条目数量不超过 {@link #getMaximumSize()}。缓存满时随机抽取若干个条目，淘汰其中访问频率最低的一个（采样 LFU），
+ * 访问频率会周期性地减半，使过去的热点逐渐让位于新的热点。读操作只有一次 {@link ConcurrentHashMap#get(Object)}
+ * 和一次近似的计数，不加锁。
+ * <p>
+ * 缓存只适合保存由键唯一确定的值：同一个键并发写入时保留先写入的值。
+ *
+ * @param <K> 键的类型
+ * @param <V> 值的类型
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 15:40
+ */
+public final class BoundedCache<K, V> {
+
+    // 淘汰时抽样的条目数量
+    private static final int SAMPLE_SIZE = 8;
+
+    // 访问频率的上限
+    private static final int MAX_FREQUENCY = 0xFF;
+
+    // 平均每命中 maximumSize * AGING_FACTOR 次将所有访问频率减半
+    private static final int AGING_FACTOR = 10;
+
+    private final int maximumSize;
+
+    private final ConcurrentHashMap<K, Node<K, V>> map;
+
+    /**
+     * 已存放的条目，用于随机抽样
+     */
+    private final AtomicReferenceArray<Node<K, V>> slots;
+
+    private final AtomicInteger allocatedSlots = new AtomicInteger();
+
+    private final int agingPeriod;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        volatile int frequency = 1;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * @param maximumSize 缓存的最大条目数量，必须大于 0
+     * @throws IllegalArgumentException 如果 maximumSize 小于等于 0
+     */
+    public BoundedCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.agingPeriod = (int) Math.min(Integer.MAX_VALUE, (long) maximumSize * AGING_FACTOR);
+        this.map = new ConcurrentHashMap<K, Node<K, V>>(Math.min(maximumSize, 1 << 16));
+        this.slots = new AtomicReferenceArray<Node<K, V>>(maximumSize);
+    }
+
+    /**
+     * 获取缓存的值
+     *
+     * @param key 键，不为 null
+     * @return 缓存的值，不存在时返回 null
+     */
+    public V get(K key) {
+        final Node<K, V> node = map.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        final int frequency = node.frequency;
+        if (frequency < MAX_FREQUENCY) {
+            node.frequency = frequency + 1; // 允许并发时丢失部分计数
+        }
+        // 以随机触发代替共享计数器，避免读操作之间的竞争
+        if (ThreadLocalRandom.current().nextInt(agingPeriod) == 0) {
+            age();
+        }
+        return node.value;
+    }
+
+    /**
+     * 存放一个值，如果键已经存在则保留原有的值
+     *
+     * @param key   键，不为 null
+     * @param value 值，不为 null
+     */
+    public void put(K key, V value) {
+        final Node<K, V> node = new Node<K, V>(key, value);
+        if (map.putIfAbsent(key, node) != null) {
+            return;
+        }
+        if (allocatedSlots.get() < maximumSize) {
+            final int slot = allocatedSlots.getAndIncrement();
+            if (slot < maximumSize) {
+                slots.set(slot, node);
+                return;
+            }
+        }
+        // 缓存已满，替换抽样中访问频率最低的条目
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < SAMPLE_SIZE; attempt++) {
+            int victimSlot = -1;
+            Node<K, V> victim = null;
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                final int slot = random.nextInt(maximumSize);
+                final Node<K, V> candidate = slots.get(slot);
+                if (candidate != null && (victim == null || candidate.frequency < victim.frequency)) {
+                    victim = candidate;
+                    victimSlot = slot;
+                }
+            }
+            if (victim != null && slots.compareAndSet(victimSlot, victim, node)) {
+                map.remove(victim.key, victim);
+                evictions.increment();
+                return;
+            }
+        }
+        // 竞争激烈时放弃本次写入
+        map.remove(key, node);
+    }
+
+    /**
+     * @return 当前缓存的条目数量
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * @return 缓存的最大条目数量
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return 淘汰的条目数量
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return 命中率，尚未访问过时返回 0
+     */
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private void age() {
+        for (int i = 0; i < slots.length(); i++) {
+            final Node<K, V> node = slots.get(i);
+            if (node != null) {
+                node.frequency >>>= 1;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedCache{size=" + size() + ", maximumSize=" + maximumSize
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount() + "}";
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 20:10.
+ */
+package com.alianga.valid.validator;
+
+import java.util.BitSet;
+
+/**
+ * <p>批量校验的结果</p>
+ * 以位集记录每个元素是否有效，第 i 位对应输入中的第 i 个元素，不为单个元素创建结果对象。
+ * 实例创建后不可变。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 20:10
+ * @see EmailValidator#validateAll(String[])
+ */
+public final class BulkValidationResult {
+
+    private final BitSet valid;
+
+    private final int size;
+
+    private final int validCount;
+
+    BulkValidationResult(long[] words, int size) {
+        this.valid = BitSet.valueOf(words);
+        this.size = size;
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        this.validCount = count;
+    }
+
+    /**
+     * @return 校验的元素数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 有效的元素数量
+     */
+    public int getValidCount() {
+        return validCount;
+    }
+
+    /**
+     * @return 无效的元素数量
+     */
+    public int getInvalidCount() {
+        return size - validCount;
+    }
+
+    /**
+     * @param index 元素在输入中的位置
+     * @return 如果该元素有效则返回 true
+     * @throws IndexOutOfBoundsException 如果 index 不在 [0, size) 范围内
+     */
+    public boolean isValid(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return valid.get(index);
+    }
+
+    /**
+     * 查找下一个无效的元素，可用于遍历所有无效元素：
+     * <pre>
+     * for (int i = result.nextInvalid(0); i &gt;= 0; i = result.nextInvalid(i + 1)) { ... }
+     * </pre>
+     *
+     * @param fromIndex 开始查找的位置（包含）
+     * @return 下一个无效元素的位置，不存在时返回 -1
+     */
+    public int nextInvalid(int fromIndex) {
+        final int index = valid.nextClearBit(Math.max(0, fromIndex));
+        return index < size ? index : -1;
+    }
+
+    /**
+     * @return 有效元素的位集副本
+     */
+    public BitSet getValid() {
+        return (BitSet) valid.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkValidationResult{size=" + size + ", valid=" + validCount + ", invalid=" + getInvalidCount() + "}";
+    }
+}
@@ -0,0 +1,351 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 22:40.
+ */
+package com.alianga.valid.validator;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * <p>CIDR 地址块的最长前缀匹配</p>
+ * 将一组 IPv4 与 IPv6 的 CIDR 规则（例如 {@code 10.0.0.0/8}、{@code 2001:db8::/32}）编译为路径压缩的二叉前缀树
+ * （Patricia trie），查找时从根向下比较，耗时只与树的深度有关，与规则数量基本无关。
+ * 规则较多时额外按地址的前 16 位建立索引，查找直接从对应的子树开始，跳过前缀树的上层。
+ * 规则的值可以是任意对象，例如表示允许或拒绝的枚举。
+ * <p>
+ * 规则集合通过 {@link #setRules(Map)} 整体替换：新的前缀树在调用线程中构建完成后一次性发布，
+ * 并发的查找要么使用旧的规则集合，要么使用新的规则集合，不会看到构建到一半的状态。
+ *
+ * @param <V> 规则的值的类型
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 22:40
+ */
+public final class CidrMatcher<V> {
+
+    private static final int INET4_BITS = 32;
+
+    private static final long MAX_INET4_ADDRESS = 0xFFFFFFFFL;
+
+    private static final int INET6_BITS = 128;
+
+    /**
+     * 索引覆盖的地址位数
+     */
+    private static final int STRIDE_BITS = 16;
+
+    /**
+     * 同一地址族的规则数量达到该值时才建立索引
+     */
+    private static final int STRIDE_THRESHOLD = 1024;
+
+    private volatile Rules<V> rules;
+
+    /**
+     * 创建一个不含任何规则的匹配器
+     */
+    public CidrMatcher() {
+        this.rules = new Rules<V>(new Family<V>(null, 0, INET4_BITS), new Family<V>(null, 0, INET6_BITS), 0);
+    }
+
+    /**
+     * @param rules CIDR 规则及其对应的值
+     * @throws IllegalArgumentException 规则无效或重复
+     * @see #setRules(Map)
+     */
+    public CidrMatcher(Map<String, ? extends V> rules) {
+        this.rules = compile(rules);
+    }
+
+    /**
+     * 替换全部规则。规则为 CIDR 形式的地址块，省略前缀长度时表示单个地址；
+     * 地址中超出前缀长度的位会被忽略，例如 {@code 10.1.2.3/8} 等同于 {@code 10.0.0.0/8}。
+     *
+     * @param rules CIDR 规则及其对应的值，值不能为 null
+     * @throws IllegalArgumentException 规则无效或重复，此时原有的规则保持不变
+     */
+    public void setRules(Map<String, ? extends V> rules) {
+        this.rules = compile(rules);
+    }
+
+    /**
+     * @return 规则的数量
+     */
+    public int getRuleCount() {
+        return rules.count;
+    }
+
+    /**
+     * 查找包含该地址的最长前缀规则
+     *
+     * @param address IPv4 或 IPv6 地址，IPv6 地址可以带有区域标识，但不能带有前缀长度
+     * @return 匹配的规则的值；地址无效或没有匹配的规则时返回 null
+     */
+    public V match(CharSequence address) {
+        if (address == null) {
+            return null;
+        }
+        final int length = address.length();
+        for (int i = 0; i < length; i++) {
+            if (address.charAt(i) == ':') {
+                final ParsedInet6Address parsed = InetAddressValidator.scratchInet6Address();
+                if (!InetAddressValidator.parseInet6Address(address, 0, length, parsed)
+                        || parsed.getPrefixLength() >= 0) {
+                    return null;
+                }
+                return matchInet6(parsed.getHigh(), parsed.getLow());
+            }
+        }
+        final long inet4 = InetAddressValidator.parseInet4Address(address, 0, length);
+        return inet4 == InetAddressValidator.INVALID_INET4_ADDRESS ? null : matchInet4(inet4);
+    }
+
+    /**
+     * 查找包含该 IPv4 地址的最长前缀规则
+     *
+     * @param address {@link InetAddressValidator#parseInet4Address(CharSequence)} 返回的地址
+     * @return 匹配的规则的值，没有匹配的规则或地址不在 0 到 0xFFFFFFFF 之间时返回 null
+     */
+    public V matchInet4(long address) {
+        if (address < 0 || address > MAX_INET4_ADDRESS) {
+            return null;
+        }
+        return rules.inet4.find(address << INET4_BITS, 0L);
+    }
+
+    /**
+     * 查找包含该 IPv6 地址的最长前缀规则
+     *
+     * @param high 地址的高 64 位
+     * @param low  地址的低 64 位
+     * @return 匹配的规则的值，没有匹配的规则时返回 null
+     * @see ParsedInet6Address
+     */
+    public V matchInet6(long high, long low) {
+        return rules.inet6.find(high, low);
+    }
+
+    private static <V> Rules<V> compile(Map<String, ? extends V> rules) {
+        if (rules == null) {
+            rules = Collections.emptyMap();
+        }
+        Node<V> inet4 = null;
+        Node<V> inet6 = null;
+        int inet4Count = 0;
+        final ParsedInet6Address parsed = new ParsedInet6Address();
+        for (Map.Entry<String, ? extends V> rule : rules.entrySet()) {
+            final String cidr = rule.getKey();
+            final V value = rule.getValue();
+            if (cidr == null || value == null) {
+                throw new IllegalArgumentException("CIDR and value cannot be null: " + cidr + "=" + value);
+            }
+            if (cidr.indexOf(':') >= 0) {
+                if (!InetAddressValidator.parseInet6Address(cidr, parsed) || parsed.hasZone()) {
+                    throw new IllegalArgumentException("Invalid IPv6 CIDR: " + cidr);
+                }
+                final int length = parsed.getPrefixLength() < 0 ? INET6_BITS : parsed.getPrefixLength();
+                inet6 = insert(inet6, parsed.getHigh(), parsed.getLow(), length, value, cidr);
+            } else {
+                final int slash = cidr.indexOf('/');
+                final int end = slash < 0 ? cidr.length() : slash;
+                final long address = InetAddressValidator.parseInet4Address(cidr, 0, end);
+                final int length = slash < 0 ? INET4_BITS : parsePrefixLength(cidr, slash + 1);
+                if (address == InetAddressValidator.INVALID_INET4_ADDRESS || length < 0) {
+                    throw new IllegalArgumentException("Invalid IPv4 CIDR: " + cidr);
+                }
+                inet4 = insert(inet4, address << INET4_BITS, 0L, length, value, cidr);
+                inet4Count++;
+            }
+        }
+        return new Rules<V>(new Family<V>(inet4, inet4Count, INET4_BITS),
+                new Family<V>(inet6, rules.size() - inet4Count, INET6_BITS), rules.size());
+    }
+
+    /*
+     * 1 到 2 位的十进制数字，不大于 32，无效时返回 -1
+     */
+    private static int parsePrefixLength(String cidr, int start) {
+        final int digits = cidr.length() - start;
+        if (digits < 1 || digits > 2) {
+            return -1;
+        }
+        int length = 0;
+        for (int i = start; i < cidr.length(); i++) {
+            final char c = cidr.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            length = length * 10 + (c - '0');
+        }
+        return length <= INET4_BITS ? length : -1;
+    }
+
+    private static <V> Node<V> insert(Node<V> node, long high, long low, int length, V value, String cidr) {
+        high &= mask(length);
+        low &= mask(length - 64);
+        if (node == null) {
+            return new Node<V>(high, low, length, value);
+        }
+        final int common = Math.min(Math.min(length, node.length), commonPrefixLength(high, low, node.high, node.low));
+        if (common == node.length) {
+            if (common == length) {
+                if (node.value != null) {
+                    throw new IllegalArgumentException("Duplicate CIDR: " + cidr);
+                }
+                node.value = value;
+            } else if (bit(high, low, common) == 0) {
+                node.left = insert(node.left, high, low, length, value, cidr);
+            } else {
+                node.right = insert(node.right, high, low, length, value, cidr);
+            }
+            return node;
+        }
+        // 新规则与已有节点在 common 位之后分叉，或者新规则是已有节点的前缀
+        final Node<V> parent = common == length
+                ? new Node<V>(high, low, length, value)
+                : new Node<V>(high & mask(common), low & mask(common - 64), common, null);
+        if (bit(node.high, node.low, common) == 0) {
+            parent.left = node;
+        } else {
+            parent.right = node;
+        }
+        if (common < length) {
+            final Node<V> leaf = new Node<V>(high, low, length, value);
+            if (bit(high, low, common) == 0) {
+                parent.left = leaf;
+            } else {
+                parent.right = leaf;
+            }
+        }
+        return parent;
+    }
+
+    /*
+     * 128 位中的第 index 位（从最高位开始计数）
+     */
+    private static int bit(long high, long low, int index) {
+        return index < 64 ? (int) (high >>> (63 - index)) & 1 : (int) (low >>> (127 - index)) & 1;
+    }
+
+    /*
+     * 高 bits 位为 1 的掩码，bits 小于等于 0 时为 0，大于等于 64 时为全 1
+     */
+    private static long mask(int bits) {
+        if (bits <= 0) {
+            return 0L;
+        }
+        return bits >= 64 ? -1L : -1L << (64 - bits);
+    }
+
+    private static int commonPrefixLength(long high1, long low1, long high2, long low2) {
+        if (high1 != high2) {
+            return Long.numberOfLeadingZeros(high1 ^ high2);
+        }
+        return 64 + Long.numberOfLeadingZeros(low1 ^ low2);
+    }
+
+    /**
+     * 规则集合的不可变快照
+     */
+    private static final class Rules<V> {
+        final Family<V> inet4;
+        final Family<V> inet6;
+        final int count;
+
+        Rules(Family<V> inet4, Family<V> inet6, int count) {
+            this.inet4 = inet4;
+            this.inet6 = inet6;
+            this.count = count;
+        }
+    }
+
+    /**
+     * 一个地址族的前缀树，以及按地址前 16 位建立的索引
+     */
+    private static final class Family<V> {
+        final Node<V> root;
+        final int bits;
+        // 地址前 16 位对应的、路径上第一个前缀长度不小于 16 的节点，不存在时为 null；
+        // 查找时仍需检查该节点是否包含地址，再按实际地址的位继续向下
+        final Node<V>[] strideNodes;
+        // 地址前 16 位对应的、前缀长度小于 16 的最长匹配规则的值
+        final V[] strideValues;
+
+        @SuppressWarnings("unchecked")
+        Family(Node<V> root, int count, int bits) {
+            this.root = root;
+            this.bits = bits;
+            if (count < STRIDE_THRESHOLD) {
+                this.strideNodes = null;
+                this.strideValues = null;
+                return;
+            }
+            this.strideNodes = (Node<V>[]) new Node<?>[1 << STRIDE_BITS];
+            this.strideValues = (V[]) new Object[1 << STRIDE_BITS];
+            for (int prefix = 0; prefix < 1 << STRIDE_BITS; prefix++) {
+                final long high = (long) prefix << (64 - STRIDE_BITS);
+                V best = null;
+                Node<V> node = root;
+                while (node != null && node.length < STRIDE_BITS) {
+                    if (!node.covers(high, 0L)) {
+                        node = null;
+                        break;
+                    }
+                    if (node.value != null) {
+                        best = node.value;
+                    }
+                    node = bit(high, 0L, node.length) == 0 ? node.left : node.right;
+                }
+                strideNodes[prefix] = node;
+                strideValues[prefix] = best;
+            }
+        }
+
+        V find(long high, long low) {
+            V best;
+            Node<V> node;
+            if (strideNodes != null) {
+                final int prefix = (int) (high >>> (64 - STRIDE_BITS));
+                best = strideValues[prefix];
+                node = strideNodes[prefix];
+            } else {
+                best = null;
+                node = root;
+            }
+            while (node != null && node.covers(high, low)) {
+                if (node.value != null) {
+                    best = node.value;
+                }
+                if (node.length == bits) {
+                    break;
+                }
+                node = bit(high, low, node.length) == 0 ? node.left : node.right;
+            }
+            return best;
+        }
+    }
+
+    /**
+     * 前缀树的节点，表示长度为 length 的前缀；value 为 null 的节点只用于分叉。
+     * 节点只在构建时修改，发布后不再改变
+     */
+    private static final class Node<V> {
+        final long high;
+        final long low;
+        final int length;
+        V value;
+        Node<V> left;
+        Node<V> right;
+
+        Node(long high, long low, int length, V value) {
+            this.high = high;
+            this.low = low;
+            this.length = length;
+            this.value = value;
+        }
+
+        boolean covers(long high, long low) {
+            return ((high ^ this.high) & mask(length)) == 0 && ((low ^ this.low) & mask(length - 64)) == 0;
+        }
+    }
+}
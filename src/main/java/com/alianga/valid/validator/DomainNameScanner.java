@@ -0,0 +1,136 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 11:05.
+ */
+package com.alianga.valid.validator;
+
+/**
+ * <p>域名语法扫描器</p>
+ * 单次遍历检查域名的标签语法，并以偏移量的形式给出顶级标签所在的区间，整个过程不创建任何对象。
+ * 接受与拒绝的规则与下列正则表达式保持一致（派生自 RFC2396 和 RFC1123）：
+ * <pre>
+ * domainlabel = \p{Alnum}(?>[\p{Alnum}-]{0,61}\p{Alnum})?
+ * toplabel    = \p{Alpha}(?>[\p{Alnum}-]{0,61}\p{Alnum})?
+ * hostname    = ^(?:domainlabel\.)+(toplabel)\.?$
+ * </pre>
+ * 注意：hostname 要求至少包含一个 domainlabel 和一个 toplabel，这是为了检测是否存在 TLD。
+ * 只有一个标签的情况由 {@link #isDomainLabel(CharSequence, int, int)} 单独检查。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 11:05
+ */
+final class DomainNameScanner {
+
+    /**
+     * 扫描失败时的返回值
+     */
+    static final long INVALID = -1L;
+
+    /**
+     * 单个标签的最大长度 (RFC1034)
+     */
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    private DomainNameScanner() {
+    }
+
+    /**
+     * 检查 {@code [start, end)} 区间是否为带有顶级标签的域名
+     *
+     * @param s     需要检查的字符序列
+     * @param start 起始位置（包含）
+     * @param end   结束位置（不包含）
+     * @return 顶级标签的区间，高 32 位为起始位置，低 32 位为结束位置（不含末尾的点）；不合法时返回 {@link #INVALID}
+     */
+    static long scanDomainName(CharSequence s, int start, int end) {
+        int labels = 0;
+        int labelStart = start;
+        while (true) {
+            int labelEnd = labelStart;
+            while (labelEnd < end && s.charAt(labelEnd) != '.') {
+                labelEnd++;
+            }
+            // 最后一个标签，允许以一个点结尾
+            if (labelEnd >= end - 1) {
+                if (labels == 0 || !isLabel(s, labelStart, labelEnd, true)) {
+                    return INVALID;
+                }
+                return ((long) labelStart << 32) | labelEnd;
+            }
+            if (!isLabel(s, labelStart, labelEnd, false)) {
+                return INVALID;
+            }
+            labels++;
+            labelStart = labelEnd + 1;
+        }
+    }
+
+    /**
+     * 检查 {@code [start, end)} 区间是否恰好为一个域名标签
+     *
+     * @param s     需要检查的字符序列
+     * @param start 起始位置（包含）
+     * @param end   结束位置（不包含）
+     * @return 如果是合法的域名标签则返回 true
+     */
+    static boolean isDomainLabel(CharSequence s, int start, int end) {
+        return isLabel(s, start, end, false);
+    }
+
+    /**
+     * 检查 {@code [start, end)} 区间是否恰好为一个顶级标签
+     *
+     * @param s     需要检查的字符序列
+     * @param start 起始位置（包含）
+     * @param end   结束位置（不包含）
+     * @return 如果是合法的顶级标签则返回 true
+     */
+    static boolean isTopLabel(CharSequence s, int start, int end) {
+        return isLabel(s, start, end, true);
+    }
+
+    /**
+     * @return 顶级标签区间的起始位置
+     */
+    static int tldStart(long range) {
+        return (int) (range >>> 32);
+    }
+
+    /**
+     * @return 顶级标签区间的结束位置
+     */
+    static int tldEnd(long range) {
+        return (int) range;
+    }
+
+    private static boolean isLabel(CharSequence s, int start, int end, boolean topLabel) {
+        final int length = end - start;
+        if (length < 1 || length > MAX_LABEL_LENGTH) {
+            return false;
+        }
+        final char first = s.charAt(start);
+        if (topLabel ? !isAlpha(first) : !isAlnum(first)) {
+            return false;
+        }
+        if (!isAlnum(s.charAt(end - 1))) {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            final char c = s.charAt(i);
+            if (c != '-' && !isAlnum(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 与 \p{Alpha} 一致，只匹配 ASCII 字母
+    private static boolean isAlpha(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    // 与 \p{Alnum} 一致，只匹配 ASCII 字母和数字
+    private static boolean isAlnum(char c) {
+        return isAlpha(c) || (c >= '0' && c <= '9');
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 20:45.
+ */
+package com.alianga.valid.validator;
+
+import java.io.Serializable;
+
+/**
+ * <p>已通过校验的电子邮件地址</p>
+ * 由 {@link EmailValidator#parse(String)} 创建，保存原始地址以及用户名与域名的分隔位置，
+ * 子串只有在调用 getter 时才会创建。域名同时以 ASCII 形式（小写的 punycode）保存，可以直接用于比较或去重。
+ * <p>
+ * 实例创建后不可变，可以在多个线程之间安全共享。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 20:45
+ */
+public final class EmailAddress implements Serializable {
+
+    private static final long serialVersionUID = 6021468214573307412L;
+
+    private final String address;
+
+    private final int at;
+
+    private final String asciiDomain;
+
+    private final boolean ipLiteral;
+
+    private final boolean quotedLocalPart;
+
+    EmailAddress(String address, int at, String asciiDomain, boolean ipLiteral, boolean quotedLocalPart) {
+        this.address = address;
+        this.at = at;
+        this.asciiDomain = asciiDomain;
+        this.ipLiteral = ipLiteral;
+        this.quotedLocalPart = quotedLocalPart;
+    }
+
+    /**
+     * @return 原始的地址
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * @return 分隔用户名与域名的 @ 在地址中的位置，用户名为 [0, at)，域名为 [at + 1, length)
+     */
+    public int getAtIndex() {
+        return at;
+    }
+
+    /**
+     * @return 用户名（@ 之前的部分），保留原样，包括引号与转义字符
+     */
+    public String getLocalPart() {
+        return address.substring(0, at);
+    }
+
+    /**
+     * @return 域名（@ 之后的部分），保留原样；IP 地址形式的域名包含两侧的方括号
+     */
+    public String getDomain() {
+        return address.substring(at + 1);
+    }
+
+    /**
+     * @return 小写的 ASCII 域名，国际化域名已转换为 punycode；IP 地址形式的域名只转换为小写
+     */
+    public String getAsciiDomain() {
+        return asciiDomain;
+    }
+
+    /**
+     * @return 如果域名是方括号包围的 IP 地址，例如 {@code user@[192.168.0.1]}，则返回 true
+     */
+    public boolean isIpLiteral() {
+        return ipLiteral;
+    }
+
+    /**
+     * @return 如果用户名包含加引号的部分，例如 {@code "john doe"@example.com}，则返回 true
+     */
+    public boolean isQuotedLocalPart() {
+        return quotedLocalPart;
+    }
+
+    @Override
+    public String toString() {
+        return address;
+    }
+}
@@ -0,0 +1,367 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 21:20.
+ */
+package com.alianga.valid.validator;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>按行校验电子邮件地址文件</p>
+ * 文件中每行一个地址，行以 \n 或 \r\n 结束，最后一行可以没有换行符，空行被视为无效的地址。
+ * 文件以只读方式映射到内存，按行对齐切分为若干块，在 {@link ForkJoinPool#commonPool()} 中并行校验。
+ * 每个块的映射内容分段复制到一个可重用的窗口中，纯 ASCII 的行直接在窗口的字节上校验，不为每一行创建 {@link String}；包含非 ASCII 字节的行按 UTF-8 解码后校验。
+ * <p>
+ * 校验规则由构造时传入的 {@link EmailValidator} 决定。实例不可变，可以在多个线程之间安全共享。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 21:20
+ */
+public final class EmailFileValidator {
+
+    /**
+     * 默认的分块大小
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 32 * 1024 * 1024;
+
+    /**
+     * 查找行边界时每次读取的字节数
+     */
+    private static final int BOUNDARY_SCAN_SIZE = 8192;
+
+    /**
+     * 每个块复制映射内容时使用的窗口大小
+     */
+    private static final int WINDOW_SIZE = 256 * 1024;
+
+    private final EmailValidator validator;
+
+    private final int chunkSize;
+
+    /**
+     * @param validator 用于校验每一行的地址
+     * @throws IllegalArgumentException 如果 validator 为 null
+     */
+    public EmailFileValidator(EmailValidator validator) {
+        this(validator, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param validator 用于校验每一行的地址
+     * @param chunkSize 每块的字节数，实际的块会延伸到下一个行首
+     * @throws IllegalArgumentException 如果 validator 为 null 或 chunkSize 小于等于 0
+     */
+    EmailFileValidator(EmailValidator validator, int chunkSize) {
+        if (validator == null) {
+            throw new IllegalArgumentException("EmailValidator cannot be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 校验文件中的每一行，只统计数量
+     *
+     * @param file 每行一个地址的文件
+     * @return 校验结果
+     * @throws IOException 读取文件失败
+     */
+    public Result validate(Path file) throws IOException {
+        return validate(file, false);
+    }
+
+    /**
+     * 校验文件中的每一行
+     *
+     * @param file                  每行一个地址的文件
+     * @param collectInvalidOffsets 是否记录无效行的行首在文件中的字节位置
+     * @return 校验结果
+     * @throws IOException 读取文件失败
+     */
+    public Result validate(Path file, boolean collectInvalidOffsets) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long[] boundaries = lineAlignedBoundaries(channel);
+            final Chunk[] chunks = new Chunk[boundaries.length - 1];
+            for (int i = 0; i < chunks.length; i++) {
+                chunks[i] = new Chunk(validator, channel, boundaries[i], boundaries[i + 1], collectInvalidOffsets);
+            }
+            final RangeTask root = new RangeTask(chunks, 0, chunks.length);
+            if (chunks.length == 1) {
+                root.compute();
+            } else {
+                ForkJoinPool.commonPool().invoke(root);
+            }
+
+            long lines = 0;
+            long invalid = 0;
+            for (Chunk chunk : chunks) {
+                if (chunk.failure != null) {
+                    throw chunk.failure;
+                }
+                lines += chunk.lines;
+                invalid += chunk.invalid;
+            }
+            long[] offsets = null;
+            if (collectInvalidOffsets) {
+                if (invalid > Integer.MAX_VALUE - 8) {
+                    throw new IllegalStateException("Too many invalid lines to collect: " + invalid);
+                }
+                offsets = new long[(int) invalid];
+                int position = 0;
+                for (Chunk chunk : chunks) {
+                    System.arraycopy(chunk.invalidOffsets, 0, offsets, position, chunk.invalidCount);
+                    position += chunk.invalidCount;
+                }
+            }
+            return new Result(lines, lines - invalid, offsets);
+        }
+    }
+
+    /*
+     * 以 chunkSize 为间隔切分文件，每个边界都移动到其后的第一个行首，返回包括 0 和文件大小在内的边界
+     */
+    private long[] lineAlignedBoundaries(FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final long count = Math.max(1, (size + chunkSize - 1) / chunkSize);
+        long[] boundaries = new long[(int) Math.min(count + 1, Integer.MAX_VALUE - 8)];
+        int n = 1;
+        final ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long next = chunkSize;
+        while (next < size && n < boundaries.length - 1) {
+            final long lineStart = nextLineStart(channel, buffer, next, size);
+            if (lineStart >= size) {
+                break;
+            }
+            boundaries[n++] = lineStart;
+            next = lineStart + chunkSize;
+        }
+        boundaries[n++] = size;
+        return Arrays.copyOf(boundaries, n);
+    }
+
+    /*
+     * 返回 position 处或其后的第一个行首，即 position - 1 处或其后的第一个 \n 的下一个位置
+     */
+    private static long nextLineStart(FileChannel channel, ByteBuffer buffer, long position, long size)
+            throws IOException {
+        long offset = position - 1;
+        while (offset < size) {
+            buffer.clear();
+            final int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                return size;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    /**
+     * 按块的下标范围对半拆分的任务
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = -4419285637401938262L;
+
+        private final Chunk[] chunks;
+        private final int from;
+        private final int to;
+
+        RangeTask(Chunk[] chunks, int from, int to) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new RangeTask(chunks, from, middle), new RangeTask(chunks, middle, to));
+            } else if (to > from) {
+                chunks[from].run();
+            }
+        }
+    }
+
+    /**
+     * 校验一个按行对齐的块 [start, end)
+     */
+    private static final class Chunk {
+
+        private final EmailValidator validator;
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private final boolean collectInvalidOffsets;
+
+        long lines;
+        long invalid;
+        long[] invalidOffsets = new long[0];
+        int invalidCount;
+        IOException failure;
+
+        Chunk(EmailValidator validator, FileChannel channel, long start, long end, boolean collectInvalidOffsets) {
+            this.validator = validator;
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.collectInvalidOffsets = collectInvalidOffsets;
+        }
+
+        void run() {
+            if (end - start > Integer.MAX_VALUE) {
+                failure = new IOException("Line too long at offset " + start);
+                return;
+            }
+            final int length = (int) (end - start);
+            if (length == 0) {
+                return;
+            }
+            final MappedByteBuffer buffer;
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            } catch (IOException e) {
+                failure = e;
+                return;
+            }
+            // 映射的内容分段复制到可重用的窗口中，每一行在窗口的字符序列视图上按区间校验
+            byte[] window = new byte[Math.min(WINDOW_SIZE, length)];
+            AsciiSequence view = new AsciiSequence(window, 0, window.length);
+            int filled = 0;
+            int copied = 0;
+            int scanned = 0;
+            long windowOffset = start;
+            boolean ascii = true;
+            while (true) {
+                final int count = Math.min(window.length - filled, length - copied);
+                ((Buffer) buffer).position(copied);
+                buffer.get(window, filled, count);
+                filled += count;
+                copied += count;
+
+                int lineStart = 0;
+                for (int i = scanned; i < filled; i++) {
+                    final byte b = window[i];
+                    if (b == '\n') {
+                        validateLine(window, view, lineStart, i, ascii, windowOffset);
+                        lineStart = i + 1;
+                        ascii = true;
+                    } else if (b < 0) {
+                        ascii = false;
+                    }
+                }
+                if (copied == length) {
+                    if (lineStart < filled) {
+                        validateLine(window, view, lineStart, filled, ascii, windowOffset);
+                    }
+                    return;
+                }
+                // 把不完整的行移到窗口开头，一整个窗口都放不下一行时扩大窗口
+                final int rest = filled - lineStart;
+                if (lineStart == 0) {
+                    window = Arrays.copyOf(window, (int) Math.min((long) window.length * 2, length));
+                    view = new AsciiSequence(window, 0, window.length);
+                } else {
+                    System.arraycopy(window, lineStart, window, 0, rest);
+                }
+                windowOffset += lineStart;
+                filled = rest;
+                scanned = rest;
+            }
+        }
+
+        private void validateLine(byte[] window, AsciiSequence view, int lineStart, int lineEnd, boolean ascii,
+                                  long windowOffset) {
+            if (lineEnd > lineStart && window[lineEnd - 1] == '\r') {
+                lineEnd--;
+            }
+            final boolean valid = ascii
+                    ? validator.isValid(view, lineStart, lineEnd)
+                    : validator.isValid(new String(window, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+            lines++;
+            if (!valid) {
+                invalid++;
+                if (collectInvalidOffsets) {
+                    addInvalidOffset(windowOffset + lineStart);
+                }
+            }
+        }
+
+        private void addInvalidOffset(long offset) {
+            if (invalidCount == invalidOffsets.length) {
+                invalidOffsets = Arrays.copyOf(invalidOffsets, Math.max(16, invalidCount * 2));
+            }
+            invalidOffsets[invalidCount++] = offset;
+        }
+    }
+
+    /**
+     * 文件的校验结果
+     */
+    public static final class Result {
+
+        private final long lineCount;
+
+        private final long validCount;
+
+        private final long[] invalidOffsets;
+
+        Result(long lineCount, long validCount, long[] invalidOffsets) {
+            this.lineCount = lineCount;
+            this.validCount = validCount;
+            this.invalidOffsets = invalidOffsets;
+        }
+
+        /**
+         * @return 校验的行数
+         */
+        public long getLineCount() {
+            return lineCount;
+        }
+
+        /**
+         * @return 有效的行数
+         */
+        public long getValidCount() {
+            return validCount;
+        }
+
+        /**
+         * @return 无效的行数
+         */
+        public long getInvalidCount() {
+            return lineCount - validCount;
+        }
+
+        /**
+         * @return 无效行的行首在文件中的字节位置，按升序排列；校验时未要求记录则返回 null
+         */
+        public long[] getInvalidOffsets() {
+            return invalidOffsets == null ? null : invalidOffsets.clone();
+        }
+
+        @Override
+        public String toString() {
+            return "Result{lines=" + lineCount + ", valid=" + validCount + ", invalid=" + getInvalidCount() + "}";
+        }
+    }
+}
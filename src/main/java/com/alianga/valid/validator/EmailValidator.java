@@ -3,9 +3,17 @@ package com.alianga.valid.validator;
  * Created by 郑明亮 on 2022/1/3 23:19.
  */
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
 
 /**
  * @author 郑明亮
@@ -14,23 +22,82 @@ import java.util.regex.Pattern;
  * @description
  */
 public class EmailValidator implements Serializable {
-    private static final String SPECIAL_CHARS = "\\p{Cntrl}\\(\\)<>@,;:'\\\\\\\"\\.\\[\\]";
-    private static final String VALID_CHARS = "(\\\\.)|[^\\s" + SPECIAL_CHARS + "]";
-    private static final String QUOTED_USER = "(\"(\\\\\"|[^\"])*\")";
-    private static final String WORD = "((" + VALID_CHARS + "|')+|" + QUOTED_USER + ")";
+    /*
+     * 地址由手写的状态机单次遍历解析，接受与拒绝的规则与下列正则表达式保持一致：
+     *
+     * SPECIAL_CHARS = \p{Cntrl}\(\)<>@,;:'\\\"\.\[\]
+     * VALID_CHARS   = (\\.)|[^\s SPECIAL_CHARS]
+     * QUOTED_USER   = ("(\\"|[^"])*")
+     * WORD          = ((VALID_CHARS|')+|QUOTED_USER)
+     *
+     * email         = ^(.+)@(\S+)$
+     * ip domain     = ^\[(.*)\]$
+     * user          = ^WORD(\.WORD)*$
+     *
+     * 纯 ASCII 的地址在原字符串上按区间校验，不创建任何对象，耗时与地址长度成线性关系。
+     */
 
-    private static final String EMAIL_REGEX = "^(.+)@(\\S+)$";
-    private static final String IP_DOMAIN_REGEX = "^\\[(.*)\\]$";
-    private static final String USER_REGEX = "^" + WORD + "(\\." + WORD + ")*$";
+    /*
+     * 用户名状态机的状态，多个状态可以同时成立，以位掩码表示
+     */
+    // 等待一个 WORD 的开始（开头或点之后）
+    private static final int USER_START = 1;
+    // 位于未加引号的 WORD 中，可以结束
+    private static final int USER_ATOM = 1 << 1;
+    // 未加引号的 WORD 中的反斜杠之后
+    private static final int USER_ESCAPE = 1 << 2;
+    // 位于引号之内
+    private static final int USER_QUOTED = 1 << 3;
+    // 引号之内的反斜杠之后，下一个引号可以作为转义的引号
+    private static final int USER_QUOTED_ESCAPE = 1 << 4;
+    // 引号已关闭，可以结束
+    private static final int USER_QUOTED_END = 1 << 5;
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
-    private static final Pattern IP_DOMAIN_PATTERN = Pattern.compile(IP_DOMAIN_REGEX);
-    private static final Pattern USER_PATTERN = Pattern.compile(USER_REGEX);
+    /*
+     * 可以直接出现在未加引号的 WORD 中的 ASCII 字符：非空白、非控制字符，且不是 SPECIAL_CHARS（单引号除外）
+     */
+    private static final boolean[] ATOM_CHARS = new boolean[0x80];
+
+    static {
+        for (char c = '!'; c < 0x7F; c++) {
+            ATOM_CHARS[c] = "()<>@,;:\\\".[]".indexOf(c) < 0;
+        }
+    }
 
     private static final int MAX_USERNAME_LEN = 64;
 
+    /**
+     * 域名的最大长度 (RFC 1035)，更长的域名部分不进入校验结果缓存
+     */
+    private static final int MAX_CACHED_DOMAIN_LEN = 253;
+
+    /**
+     * 严格模式下地址的最大长度 (RFC 5321 4.5.3.1.3：路径最长 256 个字符，去掉两侧的尖括号)
+     */
+    private static final int MAX_EMAIL_LEN = 254;
+
+    /**
+     * 批量校验时每个子任务处理的元素数量，为 64 的倍数，使每个子任务写入互不重叠的 long
+     */
+    private static final int BULK_CHUNK_SIZE = 64 * 64;
+
     private final boolean allowTld;
 
+    /**
+     * 是否在解析之前限制地址的长度
+     */
+    private final boolean strict;
+
+    /**
+     * 域名校验结果缓存的最大条目数量，小于等于 0 时不缓存
+     */
+    private final int domainCacheSize;
+
+    /*
+     * 域名校验结果的缓存，加载新的 TLD 列表后整体替换。缓存不参与序列化，反序列化后重新创建
+     */
+    private transient volatile DomainCache domainCache;
+
     /**
      *此类的单例实例，它不认为本地地址有效。
      */
@@ -54,6 +121,31 @@ public class EmailValidator implements Serializable {
 
     private final DomainValidator domainValidator;
 
+    /**
+     * 与 TLD 列表版本绑定的域名校验结果缓存，只记录通过校验的域名
+     */
+    private static final class DomainCache {
+        final BoundedCache<String, Boolean> verdicts;
+        final long tldVersion;
+
+        DomainCache(int maximumSize, long tldVersion) {
+            this.verdicts = new BoundedCache<String, Boolean>(maximumSize);
+            this.tldVersion = tldVersion;
+        }
+    }
+
+    private static class StrictHolder { // IODH
+
+        /**
+         * 严格模式的单例实例，下标为 (allowLocal ? 1 : 0) | (allowTld ? 2 : 0)
+         */
+        private static final EmailValidator[] STRICT_VALIDATORS = {
+                new EmailValidator(false, false, true, 0),
+                new EmailValidator(true, false, true, 0),
+                new EmailValidator(false, true, true, 0),
+                new EmailValidator(true, true, true, 0)};
+    }
+
     /**
      * 返回此验证器的 Singleton 实例。
      */
@@ -94,6 +186,29 @@ public class EmailValidator implements Serializable {
         return getInstance(allowLocal, false);
     }
 
+    /**
+     * 返回严格模式的单例实例，它不认为本地地址有效，也不允许 TLD。
+     *
+     * @return 严格模式的单例实例
+     * @see #getStrictInstance(boolean, boolean)
+     */
+    public static EmailValidator getStrictInstance() {
+        return getStrictInstance(false, false);
+    }
+
+    /**
+     * 返回严格模式的单例实例。严格模式在解析之前拒绝长度超过 254 个字符的地址，
+     * 此后的解析耗时与地址长度成线性关系，因此单次校验的开销有固定的上限，适合校验不可信的输入。
+     * 其余规则与 {@link #getInstance(boolean, boolean)} 返回的实例相同。
+     *
+     * @param allowLocal 认为本地地址是否有效
+     * @param allowTld   是否允许TLD
+     * @return 严格模式的单例实例
+     */
+    public static EmailValidator getStrictInstance(boolean allowLocal, boolean allowTld) {
+        return StrictHolder.STRICT_VALIDATORS[(allowLocal ? 1 : 0) | (allowTld ? 2 : 0)];
+    }
+
     /**
      * 用于创建具有指定域验证器的实例的构造函数
      *
@@ -106,6 +221,8 @@ public class EmailValidator implements Serializable {
     public EmailValidator(boolean allowLocal, boolean allowTld, DomainValidator domainValidator) {
         super();
         this.allowTld = allowTld;
+        this.strict = false;
+        this.domainCacheSize = 0;
         if (domainValidator == null) {
             throw new IllegalArgumentException("DomainValidator cannot be null");
         } else {
@@ -123,8 +240,32 @@ public class EmailValidator implements Serializable {
      * @param allowTld Should TLDs be allowed?
      */
     protected EmailValidator(boolean allowLocal, boolean allowTld) {
+        this(allowLocal, allowTld, false, 0);
+    }
+
+    /**
+     * 创建带有域名校验结果缓存的实例。地址的域名部分（@ 之后的原始字符串）通过校验时结果会被缓存，
+     * 同一个域名再次出现时只需一次哈希查找，适合大量地址共享少数域名的场景。
+     * 无效的域名与超过 253 个字符的域名部分不进入缓存，避免大量无效输入挤出常用域名或占用过多内存。
+     * 缓存只属于这个实例，因此不同的 allowLocal、allowTld 设置互不影响；
+     * 通过 {@link TldRegistry} 加载新的 TLD 列表后缓存会被清空。重写了 isValidUser 或 isValidDomain 的子类不使用缓存。
+     *
+     * @param allowLocal      本地地址是否应被视为有效
+     * @param allowTld        是否应该允许 TLD
+     * @param domainCacheSize 缓存的最大条目数量，小于等于 0 时不缓存
+     */
+    public EmailValidator(boolean allowLocal, boolean allowTld, int domainCacheSize) {
+        this(allowLocal, allowTld, false, domainCacheSize);
+    }
+
+    private EmailValidator(boolean allowLocal, boolean allowTld, boolean strict, int domainCacheSize) {
         this.allowTld = allowTld;
+        this.strict = strict;
+        this.domainCacheSize = domainCacheSize;
         this.domainValidator = DomainValidator.getInstance(allowLocal);
+        if (domainCacheSize > 0) {
+            this.domainCache = new DomainCache(domainCacheSize, TldRegistry.getVersion());
+        }
     }
 
     /**
@@ -136,6 +277,25 @@ public class EmailValidator implements Serializable {
         this(allowLocal, false);
     }
 
+    /**
+     * @return 如果是严格模式的实例则返回 true
+     * @see #getStrictInstance(boolean, boolean)
+     */
+    public boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * 获取域名校验结果缓存，可用于查看命中率等统计信息
+     *
+     * @return 域名校验结果缓存，未启用时返回 null
+     * @see #EmailValidator(boolean, boolean, int)
+     */
+    public BoundedCache<String, Boolean> getDomainCache() {
+        final DomainCache cache = domainCache;
+        return cache == null ? null : cache.verdicts;
+    }
+
     /**
      * <p>检查字段是否具有有效的电子邮件地址.</p>
      *
@@ -143,29 +303,296 @@ public class EmailValidator implements Serializable {
      * @return 如果电子邮件地址有效，则为true.
      */
     public boolean isValid(String email) {
-        if (email == null) {
-            return false;
+        return email != null && validate(email, 0, email.length()) >= 0;
+    }
+
+    /**
+     * 校验字符序列 {@code [start, end)} 区间内的电子邮件地址，规则与 {@link #isValid(String)} 相同
+     */
+    boolean isValid(CharSequence email, int start, int end) {
+        return validate(email, start, end) >= 0;
+    }
+
+    /**
+     * 校验并解析电子邮件地址，规则与 {@link #isValid(String)} 相同。
+     * 返回的结果中包含用户名与域名的位置、转换为小写 punycode 的域名等信息，后续处理无需再次解析地址。
+     *
+     * @param email 要解析的邮件地址，<code>null</code> 值被视为无效
+     * @return 解析结果，地址无效时返回 <code>null</code>
+     */
+    public EmailAddress parse(String email) {
+        final int at = email == null ? -1 : validate(email, 0, email.length());
+        if (at < 0) {
+            return null;
         }
+        final String domain = email.substring(at + 1);
+        final boolean ipLiteral = isIpDomain(domain, 0, domain.length());
+        final String asciiDomain = ipLiteral ? domain : DomainValidator.unicodeToASCII(domain);
+        return new EmailAddress(email, at, asciiDomain.toLowerCase(Locale.ENGLISH), ipLiteral,
+                hasQuotedWord(email, 0, at));
+    }
 
-        if (email.endsWith(".")) { // check this first - it's cheap!
-            return false;
+    /*
+     * 校验 [start, end) 区间内的电子邮件地址，返回分隔用户名与域名的 @ 的位置，地址无效时返回 -1
+     */
+    private int validate(CharSequence email, int start, int end) {
+        if (strict && end - start > MAX_EMAIL_LEN) {
+            return -1;
+        }
+
+        if (end > start && email.charAt(end - 1) == '.') { // check this first - it's cheap!
+            return -1;
         }
 
         // Check the whole email address structure
-        Matcher emailMatcher = EMAIL_PATTERN.matcher(email);
-        if (!emailMatcher.matches()) {
-            return false;
+        final int at = indexOfDomain(email, start, end);
+        if (at < 0) {
+            return -1;
+        }
+
+        final boolean valid;
+        if (getClass() != EmailValidator.class) {
+            // 子类可能重写了 isValidUser 或 isValidDomain，按原有方式传入子串
+            valid = isValidUser(email.subSequence(start, at).toString())
+                    && isValidDomain(email.subSequence(at + 1, end).toString());
+        } else {
+            valid = isValidUser(email, start, at) && isValidDomain(email, at + 1, end);
+        }
+        return valid ? at : -1;
+    }
+
+    /**
+     * 使用 {@link ForkJoinPool#commonPool()} 并行校验一组电子邮件地址，规则与 {@link #isValid(String)} 相同。
+     * 输入按固定大小分块，由工作窃取的方式分配给各个线程；<code>null</code> 元素被视为无效。
+     *
+     * @param emails 需要校验的地址
+     * @return 校验结果，第 i 位对应 emails[i]
+     * @throws IllegalArgumentException 如果 emails 为 null
+     */
+    public BulkValidationResult validateAll(String[] emails) {
+        if (emails == null) {
+            throw new IllegalArgumentException("emails cannot be null");
+        }
+        return validateAll(Arrays.asList(emails));
+    }
+
+    /**
+     * 并行校验一组电子邮件地址，规则与 {@link #validateAll(String[])} 相同。
+     * 不支持随机访问的列表会先复制为数组。
+     *
+     * @param emails 需要校验的地址
+     * @return 校验结果，第 i 位对应 emails.get(i)
+     * @throws IllegalArgumentException 如果 emails 为 null
+     */
+    public BulkValidationResult validateAll(List<String> emails) {
+        if (emails == null) {
+            throw new IllegalArgumentException("emails cannot be null");
+        }
+        final List<String> list = emails instanceof RandomAccess ? emails : new ArrayList<String>(emails);
+        final int size = list.size();
+        final long[] words = new long[(size + 63) >>> 6];
+        final BulkValidationTask task = new BulkValidationTask(this, list, words, 0, size);
+        if (size <= BULK_CHUNK_SIZE) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        return new BulkValidationResult(words, size);
+    }
+
+    /**
+     * 并行校验流中的电子邮件地址，规则与 {@link #validateAll(String[])} 相同。
+     * 流的元素会先按顺序收集到数组中，再分块校验。
+     *
+     * @param emails 需要校验的地址，结果中元素的顺序与流的遇见顺序一致
+     * @return 校验结果
+     * @throws IllegalArgumentException 如果 emails 为 null
+     */
+    public BulkValidationResult validateAll(Stream<String> emails) {
+        if (emails == null) {
+            throw new IllegalArgumentException("emails cannot be null");
+        }
+        return validateAll(emails.toArray(String[]::new));
+    }
+
+    /**
+     * 批量校验的子任务，[from, to) 区间超过 {@link #BULK_CHUNK_SIZE} 时按 64 的倍数对半拆分
+     */
+    private static final class BulkValidationTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 2310843985120987554L;
+
+        private final EmailValidator validator;
+        private final List<String> emails;
+        private final long[] words;
+        private final int from;
+        private final int to;
+
+        BulkValidationTask(EmailValidator validator, List<String> emails, long[] words, int from, int to) {
+            this.validator = validator;
+            this.emails = emails;
+            this.words = words;
+            this.from = from;
+            this.to = to;
         }
 
-        if (!isValidUser(emailMatcher.group(1))) {
+        @Override
+        protected void compute() {
+            if (to - from > BULK_CHUNK_SIZE) {
+                final int middle = from + Math.max(BULK_CHUNK_SIZE, ((to - from) >>> 1) & ~(BULK_CHUNK_SIZE - 1));
+                invokeAll(new BulkValidationTask(validator, emails, words, from, middle),
+                        new BulkValidationTask(validator, emails, words, middle, to));
+                return;
+            }
+            // from 总是 64 的倍数，因此每个 long 只会被一个子任务写入
+            for (int word = from >>> 6; word << 6 < to; word++) {
+                final int start = word << 6;
+                final int end = Math.min(start + 64, to);
+                long bits = 0L;
+                for (int i = start; i < end; i++) {
+                    if (validator.isValid(emails.get(i))) {
+                        bits |= 1L << i;
+                    }
+                }
+                words[word] = bits;
+            }
+        }
+    }
+
+    /**
+     * 按 {@code ^(.+)@(\S+)$} 的规则找出分隔用户名与域名的 @：
+     * 用户名非空且不含行结束符，域名非空且不含空白字符，有多个候选时取最后一个。
+     *
+     * @return @ 的位置，不合法时返回 -1
+     */
+    static int indexOfDomain(CharSequence email, int start, int end) {
+        int at = -1;
+        int whitespace = -1;
+        boolean terminated = false;
+        for (int i = start; i < end; i++) {
+            final char c = email.charAt(i);
+            if (c == '@' && !terminated && i > start && i < end - 1) {
+                at = i;
+            } else if (isLineTerminator(c)) {
+                terminated = true;
+            }
+            if (isWhitespace(c)) {
+                whitespace = i;
+            }
+        }
+        return whitespace > at ? -1 : at;
+    }
+
+    /*
+     * 与 isValidDomain(String) 规则相同，只校验 [start, end) 区间
+     */
+    private boolean isValidDomain(CharSequence email, int start, int end) {
+        DomainCache cache = domainCache;
+        if (cache == null || end - start > MAX_CACHED_DOMAIN_LEN) {
+            return isValidDomainName(email, start, end);
+        }
+        final long tldVersion = TldRegistry.getVersion();
+        if (cache.tldVersion != tldVersion) {
+            cache = new DomainCache(domainCacheSize, tldVersion);
+            domainCache = cache;
+        }
+        final String domain = email.subSequence(start, end).toString();
+        if (cache.verdicts.get(domain) != null) {
+            return true;
+        }
+        if (!isValidDomainName(domain, 0, domain.length())) {
             return false;
         }
+        cache.verdicts.put(domain, Boolean.TRUE);
+        return true;
+    }
 
-        if (!isValidDomain(emailMatcher.group(2))) {
+    private boolean isValidDomainName(CharSequence email, int start, int end) {
+        if (email.charAt(start) == '[' && isIpDomain(email, start, end)) {
+            return InetAddressValidator.getInstance().isValid(email, start + 1, end - 1);
+        }
+        if (domainValidator.isValid(email, start, end)) {
+            return true;
+        }
+        return allowTld && email.charAt(start) != '.'
+                && domainValidator.classifyTld(email, start, end) != DomainValidator.TldCategory.UNKNOWN;
+    }
+
+    /*
+     * 与 isValidUser(String) 规则相同，只校验 [start, end) 区间
+     */
+    private static boolean isValidUser(CharSequence user, int start, int end) {
+        if (end - start > MAX_USERNAME_LEN) {
             return false;
         }
+        int states = USER_START;
+        for (int i = start; i < end && states != 0; i++) {
+            states = nextUserStates(states, user.charAt(i));
+        }
+        return (states & (USER_ATOM | USER_QUOTED_END)) != 0;
+    }
 
-        return true;
+    /*
+     * 用户名是否包含加引号的 WORD，只对已经通过校验的用户名调用。
+     * 未进入过引号的路径保留在 unquoted 中，一旦进入引号便转移到 quoted 中
+     */
+    private static boolean hasQuotedWord(CharSequence user, int start, int end) {
+        final int quotedStates = USER_QUOTED | USER_QUOTED_ESCAPE | USER_QUOTED_END;
+        int unquoted = USER_START;
+        int quoted = 0;
+        for (int i = start; i < end; i++) {
+            final char c = user.charAt(i);
+            final int next = nextUserStates(unquoted, c);
+            quoted = nextUserStates(quoted, c) | (next & quotedStates);
+            unquoted = next & ~quotedStates;
+        }
+        return (quoted & (USER_ATOM | USER_QUOTED_END)) != 0;
+    }
+
+    private static int nextUserStates(int states, char c) {
+        int next = 0;
+        if ((states & (USER_START | USER_ATOM)) != 0) {
+            if (c == '\\') {
+                next |= USER_ESCAPE;
+            } else if (isAtomChar(c)) {
+                next |= USER_ATOM;
+            }
+        }
+        if ((states & USER_START) != 0 && c == '"') {
+            next |= USER_QUOTED;
+        }
+        if ((states & (USER_ATOM | USER_QUOTED_END)) != 0 && c == '.') {
+            next |= USER_START;
+        }
+        if ((states & USER_ESCAPE) != 0 && !isLineTerminator(c)) {
+            next |= USER_ATOM;
+        }
+        if ((states & USER_QUOTED) != 0) {
+            if (c == '"') {
+                next |= USER_QUOTED_END;
+            } else {
+                // 反斜杠既可以是普通字符，也可以转义其后的引号
+                next |= c == '\\' ? USER_QUOTED | USER_QUOTED_ESCAPE : USER_QUOTED;
+            }
+        }
+        if ((states & USER_QUOTED_ESCAPE) != 0 && c == '"') {
+            next |= USER_QUOTED;
+        }
+        return next;
+    }
+
+    private static boolean isAtomChar(char c) {
+        return c >= 0x80 || ATOM_CHARS[c];
+    }
+
+    // 与正则表达式中 . 不匹配的字符一致
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    // 与 \s 一致，只匹配 ASCII 空白字符
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
@@ -176,12 +603,10 @@ public class EmailValidator implements Serializable {
      */
     protected boolean isValidDomain(String domain) {
         // see if domain is an IP address in brackets
-        Matcher ipDomainMatcher = IP_DOMAIN_PATTERN.matcher(domain);
-
-        if (ipDomainMatcher.matches()) {
+        if (isIpDomain(domain, 0, domain.length())) {
             InetAddressValidator inetAddressValidator =
                     InetAddressValidator.getInstance();
-            return inetAddressValidator.isValid(ipDomainMatcher.group(1));
+            return inetAddressValidator.isValid(domain.substring(1, domain.length() - 1));
         }
         // Domain is symbolic name
         if (allowTld) {
@@ -199,10 +624,33 @@ public class EmailValidator implements Serializable {
      */
     protected boolean isValidUser(String user) {
 
-        if (user == null || user.length() > MAX_USERNAME_LEN) {
+        if (user == null) {
             return false;
         }
 
-        return USER_PATTERN.matcher(user).matches();
+        return isValidUser(user, 0, user.length());
+    }
+
+    /*
+     * 与 ^\[(.*)\]$ 一致：以方括号包围，且其中不含行结束符
+     */
+    private static boolean isIpDomain(CharSequence domain, int start, int end) {
+        final int last = end - 1;
+        if (last - start < 1 || domain.charAt(start) != '[' || domain.charAt(last) != ']') {
+            return false;
+        }
+        for (int i = start + 1; i < last; i++) {
+            if (isLineTerminator(domain.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (domainCacheSize > 0) {
+            domainCache = new DomainCache(domainCacheSize, TldRegistry.getVersion());
+        }
     }
 }
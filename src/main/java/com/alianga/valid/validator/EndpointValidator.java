@@ -0,0 +1,199 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 23:35.
+ */
+package com.alianga.valid.validator;
+
+import java.io.Serializable;
+
+/**
+ * <p>主机与端口（endpoint）的校验</p>
+ * 接受以下三种形式，主机的规则与 {@link InetAddressValidator}、{@link DomainValidator} 相同：
+ * <ul>
+ * <li>{@code host} 或 {@code host:port}，host 为 IPv4 地址或域名；</li>
+ * <li>{@code [ipv6]} 或 {@code [ipv6]:port}，方括号中为不带前缀长度的 IPv6 地址，可以带有区域标识；</li>
+ * <li>不带方括号的 IPv6 地址，此时不能带有端口，因为无法与地址的最后一组区分。</li>
+ * </ul>
+ * 端口为 1 到 5 位的十进制数字，取值范围为 1 到 65535。
+ * <p>
+ * 主机的类型由分隔符直接确定，不需要先拆分字符串再分别尝试各个校验器；
+ * 解析结果以偏移量的形式写入 {@link ParsedEndpoint}，纯 ASCII 的输入在校验过程中不创建任何对象。
+ * 实例不可变，可以在多个线程之间安全共享。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 23:35
+ */
+public final class EndpointValidator implements Serializable {
+
+    private static final long serialVersionUID = 3862095716250431187L;
+
+    private static final int MAX_PORT = 65535;
+
+    private static final int MAX_PORT_DIGITS = 5;
+
+    private static final EndpointValidator ENDPOINT_VALIDATOR = new EndpointValidator(DomainValidator.getInstance(), false);
+
+    private final DomainValidator domainValidator;
+
+    private final boolean portRequired;
+
+    /**
+     * @return 不接受本地域名、端口可以省略的单例实例
+     */
+    public static EndpointValidator getInstance() {
+        return ENDPOINT_VALIDATOR;
+    }
+
+    /**
+     * @param domainValidator 用于校验域名形式的主机
+     * @param portRequired    是否必须带有端口
+     * @throws IllegalArgumentException 如果 domainValidator 为 null
+     */
+    public EndpointValidator(DomainValidator domainValidator, boolean portRequired) {
+        if (domainValidator == null) {
+            throw new IllegalArgumentException("DomainValidator cannot be null");
+        }
+        this.domainValidator = domainValidator;
+        this.portRequired = portRequired;
+    }
+
+    /**
+     * @param endpoint 需要校验的主机与端口
+     * @return 如果有效则返回 true
+     */
+    public boolean isValid(CharSequence endpoint) {
+        return endpoint != null && parse(endpoint, 0, endpoint.length(), null);
+    }
+
+    /**
+     * 解析主机与端口
+     *
+     * @param endpoint 需要解析的主机与端口
+     * @param result   用于保存解析结果，可以为 null（只校验）；无效时其内容不变
+     * @return 如果有效则返回 true
+     */
+    public boolean parse(CharSequence endpoint, ParsedEndpoint result) {
+        return endpoint != null && parse(endpoint, 0, endpoint.length(), result);
+    }
+
+    /**
+     * @return 是否必须带有端口
+     */
+    public boolean isPortRequired() {
+        return portRequired;
+    }
+
+    /**
+     * 解析字符序列 {@code [start, end)} 区间内的主机与端口，结果中的位置是相对于整个字符序列的
+     */
+    boolean parse(CharSequence endpoint, int start, int end, ParsedEndpoint result) {
+        if (start == end) {
+            return false;
+        }
+        final HostType type;
+        final int hostStart;
+        final int hostEnd;
+        final int portStart;
+        if (endpoint.charAt(start) == '[') {
+            int close = start + 1;
+            while (close < end && endpoint.charAt(close) != ']') {
+                close++;
+            }
+            if (close == end) {
+                return false;
+            }
+            if (close + 1 < end && endpoint.charAt(close + 1) != ':') {
+                return false;
+            }
+            type = HostType.INET6;
+            hostStart = start + 1;
+            hostEnd = close;
+            portStart = close + 1 < end ? close + 2 : -1;
+        } else {
+            int firstColon = -1;
+            int lastColon = -1;
+            for (int i = start; i < end; i++) {
+                if (endpoint.charAt(i) == ':') {
+                    if (firstColon < 0) {
+                        firstColon = i;
+                    }
+                    lastColon = i;
+                }
+            }
+            hostStart = start;
+            if (firstColon != lastColon) {
+                // 多个冒号只可能是不带方括号的 IPv6 地址
+                type = HostType.INET6;
+                hostEnd = end;
+                portStart = -1;
+            } else {
+                hostEnd = firstColon < 0 ? end : firstColon;
+                portStart = firstColon < 0 ? -1 : firstColon + 1;
+                if (hostEnd == hostStart) {
+                    return false;
+                }
+                type = InetAddressValidator.parseInet4Address(endpoint, hostStart, hostEnd)
+                        != InetAddressValidator.INVALID_INET4_ADDRESS ? HostType.INET4 : HostType.DOMAIN;
+            }
+        }
+
+        int port = -1;
+        if (portStart >= 0) {
+            port = parsePort(endpoint, portStart, end);
+            if (port < 0) {
+                return false;
+            }
+        } else if (portRequired) {
+            return false;
+        }
+        if (type == HostType.INET6) {
+            final ParsedInet6Address parsed = InetAddressValidator.scratchInet6Address();
+            if (!InetAddressValidator.parseInet6Address(endpoint, hostStart, hostEnd, parsed)
+                    || parsed.getPrefixLength() >= 0) {
+                return false;
+            }
+        } else if (type == HostType.DOMAIN && !domainValidator.isValid(endpoint, hostStart, hostEnd)) {
+            return false;
+        }
+        if (result != null) {
+            result.set(type, hostStart, hostEnd, port);
+        }
+        return true;
+    }
+
+    /*
+     * 1 到 5 位的十进制数字，取值为 1 到 65535，无效时返回 -1
+     */
+    private static int parsePort(CharSequence endpoint, int start, int end) {
+        if (end - start < 1 || end - start > MAX_PORT_DIGITS) {
+            return -1;
+        }
+        int port = 0;
+        for (int i = start; i < end; i++) {
+            final char c = endpoint.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            port = port * 10 + (c - '0');
+        }
+        return port >= 1 && port <= MAX_PORT ? port : -1;
+    }
+
+    /**
+     * 主机的类型
+     */
+    public enum HostType {
+        /**
+         * IPv4 地址
+         */
+        INET4,
+        /**
+         * IPv6 地址
+         */
+        INET6,
+        /**
+         * 域名
+         */
+        DOMAIN
+    }
+}
@@ -0,0 +1,226 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 23:10.
+ */
+package com.alianga.valid.validator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>IP 地址的用途分类</p>
+ * 根据 IANA 的 IPv4/IPv6 特殊用途地址注册表（RFC 6890 及后续更新）以及组播地址段，
+ * 返回地址所属类别的位掩码，可用于在发起出站请求前拒绝内网、回环等地址（SSRF 防护）：
+ * <pre>
+ * int categories = InetAddressClassifier.getInstance().classify(host);
+ * if (categories != 0) { // 无效地址或非普通的公网单播地址
+ *     ...
+ * }
+ * </pre>
+ * 分类表在创建实例时编译为 {@link CidrMatcher}，每个地址块的掩码已经包含了覆盖它的更大地址块的类别，
+ * 因此一次最长前缀匹配即可得到全部类别，查找时间只与表的深度有关（不超过十几个节点）。
+ * 内嵌 IPv4 地址的 IPv6 地址（IPv4 映射、IPv4 转换、NAT64、6to4）同时返回其中的 IPv4 地址的类别，
+ * 不能借助这些形式绕过对 IPv4 回环、私有地址的检查。
+ * 分类直接基于解析得到的数值地址，不会进行 DNS 查询。实例不可变，可以在多个线程之间安全共享。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 23:10
+ */
+public final class InetAddressClassifier {
+
+    /**
+     * 未指定地址：{@code 0.0.0.0}、{@code ::}
+     */
+    public static final int UNSPECIFIED = 1;
+
+    /**
+     * 回环地址：{@code 127.0.0.0/8}、{@code ::1}
+     */
+    public static final int LOOPBACK = 1 << 1;
+
+    /**
+     * 私有地址：RFC 1918 的 {@code 10.0.0.0/8}、{@code 172.16.0.0/12}、{@code 192.168.0.0/16}，
+     * 以及 IPv6 的唯一本地地址 {@code fc00::/7}
+     */
+    public static final int PRIVATE = 1 << 2;
+
+    /**
+     * 运营商级 NAT 的共享地址：{@code 100.64.0.0/10}
+     */
+    public static final int SHARED = 1 << 3;
+
+    /**
+     * 链路本地地址：{@code 169.254.0.0/16}、{@code fe80::/10}
+     */
+    public static final int LINK_LOCAL = 1 << 4;
+
+    /**
+     * 组播地址：{@code 224.0.0.0/4}、{@code ff00::/8}
+     */
+    public static final int MULTICAST = 1 << 5;
+
+    /**
+     * 受限广播地址：{@code 255.255.255.255}
+     */
+    public static final int BROADCAST = 1 << 6;
+
+    /**
+     * 文档示例地址：{@code 192.0.2.0/24}、{@code 198.51.100.0/24}、{@code 203.0.113.0/24}、
+     * {@code 2001:db8::/32}、{@code 3fff::/20}
+     */
+    public static final int DOCUMENTATION = 1 << 7;
+
+    /**
+     * 网络设备基准测试地址：{@code 198.18.0.0/15}、{@code 2001:2::/48}
+     */
+    public static final int BENCHMARKING = 1 << 8;
+
+    /**
+     * 其他保留或特殊用途的地址，例如 {@code 0.0.0.0/8}、{@code 240.0.0.0/4}、{@code 192.0.0.0/24}、
+     * {@code 100::/64}、{@code 2001::/23}，以及已废弃的 IPv4 兼容地址 {@code ::/96} 与站点本地地址 {@code fec0::/10}
+     */
+    public static final int RESERVED = 1 << 9;
+
+    /**
+     * IPv4 映射的 IPv6 地址：{@code ::ffff:0:0/96}，同时返回其中的 IPv4 地址的类别
+     */
+    public static final int IPV4_MAPPED = 1 << 10;
+
+    /**
+     * 内嵌 IPv4 地址的 IPv6 地址：IPv4 转换地址 {@code ::ffff:0:0:0/96} (RFC 2765) 与
+     * NAT64 知名前缀 {@code 64:ff9b::/96}（低 32 位）、6to4 {@code 2002::/16}（第 16 到 47 位），
+     * 同时返回其中的 IPv4 地址的类别
+     */
+    public static final int IPV4_EMBEDDED = 1 << 11;
+
+    private static final long SIX_TO_FOUR_PREFIX = 0x2002L;
+
+    /**
+     * 地址无效时的返回值。所有位都为 1，按类别检查时无效地址不会被当作普通的公网地址
+     */
+    public static final int INVALID_ADDRESS = -1;
+
+    /**
+     * 特殊用途地址块及其类别，嵌套在其他地址块中的条目已经包含外层地址块的类别
+     */
+    private static final Object[][] REGISTRY = {
+            // IPv4
+            {"0.0.0.0/8", RESERVED},
+            {"0.0.0.0/32", UNSPECIFIED | RESERVED},
+            {"10.0.0.0/8", PRIVATE},
+            {"100.64.0.0/10", SHARED},
+            {"127.0.0.0/8", LOOPBACK},
+            {"169.254.0.0/16", LINK_LOCAL},
+            {"172.16.0.0/12", PRIVATE},
+            {"192.0.0.0/24", RESERVED},
+            {"192.0.2.0/24", DOCUMENTATION},
+            {"192.88.99.0/24", RESERVED},
+            {"192.168.0.0/16", PRIVATE},
+            {"198.18.0.0/15", BENCHMARKING},
+            {"198.51.100.0/24", DOCUMENTATION},
+            {"203.0.113.0/24", DOCUMENTATION},
+            {"224.0.0.0/4", MULTICAST},
+            {"240.0.0.0/4", RESERVED},
+            {"255.255.255.255/32", BROADCAST | RESERVED},
+            // IPv6，::ffff:0:0/96 在 classifyInet6 中单独处理
+            {"::/96", RESERVED},
+            {"::/128", UNSPECIFIED | RESERVED},
+            {"::1/128", LOOPBACK | RESERVED},
+            {"::ffff:0:0:0/96", IPV4_EMBEDDED},
+            {"64:ff9b::/96", IPV4_EMBEDDED},
+            {"64:ff9b:1::/48", RESERVED},
+            {"100::/64", RESERVED},
+            {"2001::/23", RESERVED},
+            {"2001:2::/48", BENCHMARKING | RESERVED},
+            {"2001:db8::/32", DOCUMENTATION},
+            {"2002::/16", IPV4_EMBEDDED},
+            {"3fff::/20", DOCUMENTATION},
+            {"5f00::/16", RESERVED},
+            {"fc00::/7", PRIVATE},
+            {"fe80::/10", LINK_LOCAL},
+            {"fec0::/10", RESERVED},
+            {"ff00::/8", MULTICAST},
+    };
+
+    private static final InetAddressClassifier CLASSIFIER = new InetAddressClassifier();
+
+    private final CidrMatcher<Integer> registry;
+
+    /**
+     * @return 单例实例
+     */
+    public static InetAddressClassifier getInstance() {
+        return CLASSIFIER;
+    }
+
+    private InetAddressClassifier() {
+        final Map<String, Integer> rules = new LinkedHashMap<String, Integer>();
+        for (Object[] entry : REGISTRY) {
+            rules.put((String) entry[0], (Integer) entry[1]);
+        }
+        this.registry = new CidrMatcher<Integer>(rules);
+    }
+
+    /**
+     * 返回地址所属类别的位掩码
+     *
+     * @param address IPv4 或 IPv6 地址，规则与 {@link InetAddressValidator#isValid(String)} 相同，IPv6 地址不能带有前缀长度
+     * @return 类别的位掩码，普通的公网单播地址返回 0；地址无效时返回 {@link #INVALID_ADDRESS}
+     */
+    public int classify(CharSequence address) {
+        if (address == null) {
+            return INVALID_ADDRESS;
+        }
+        final int length = address.length();
+        for (int i = 0; i < length; i++) {
+            if (address.charAt(i) == ':') {
+                final ParsedInet6Address parsed = InetAddressValidator.scratchInet6Address();
+                if (!InetAddressValidator.parseInet6Address(address, 0, length, parsed)
+                        || parsed.getPrefixLength() >= 0) {
+                    return INVALID_ADDRESS;
+                }
+                return classifyInet6(parsed.getHigh(), parsed.getLow());
+            }
+        }
+        final long inet4 = InetAddressValidator.parseInet4Address(address, 0, length);
+        return inet4 == InetAddressValidator.INVALID_INET4_ADDRESS ? INVALID_ADDRESS : classifyInet4(inet4);
+    }
+
+    /**
+     * 返回 IPv4 地址所属类别的位掩码
+     *
+     * @param address {@link InetAddressValidator#parseInet4Address(CharSequence)} 返回的地址
+     * @return 类别的位掩码，普通的公网单播地址返回 0；地址不在 0 到 0xFFFFFFFF 之间时返回 {@link #INVALID_ADDRESS}
+     */
+    public int classifyInet4(long address) {
+        if (address < 0 || address > 0xFFFFFFFFL) {
+            return INVALID_ADDRESS;
+        }
+        final Integer categories = registry.matchInet4(address);
+        return categories == null ? 0 : categories;
+    }
+
+    /**
+     * 返回 IPv6 地址所属类别的位掩码。IPv4 映射地址返回 {@link #IPV4_MAPPED}，IPv4 转换、NAT64 与 6to4 地址返回
+     * {@link #IPV4_EMBEDDED}，同时返回其中的 IPv4 地址的类别
+     *
+     * @param high 地址的高 64 位
+     * @param low  地址的低 64 位
+     * @return 类别的位掩码，普通的公网单播地址返回 0
+     * @see ParsedInet6Address
+     */
+    public int classifyInet6(long high, long low) {
+        if (high == 0 && (low >>> 32) == 0xFFFFL) {
+            return IPV4_MAPPED | classifyInet4(low & 0xFFFFFFFFL);
+        }
+        final Integer categories = registry.matchInet6(high, low);
+        if (categories == null) {
+            return 0;
+        }
+        if ((categories & IPV4_EMBEDDED) != 0) {
+            final long inet4 = high >>> 48 == SIX_TO_FOUR_PREFIX ? (high >>> 16) & 0xFFFFFFFFL : low & 0xFFFFFFFFL;
+            return categories | classifyInet4(inet4);
+        }
+        return categories;
+    }
+}
@@ -4,9 +4,6 @@ package com.alianga.valid.validator;
  */
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 
 /**
  * <p>此类提供验证候选 IP 地址的方法</p>
@@ -18,14 +15,18 @@ public class InetAddressValidator implements Serializable {
 
     private static final int IPV4_MAX_OCTET_VALUE = 255;
 
-    private static final int MAX_UNSIGNED_SHORT = 0xffff;
+    private static final long serialVersionUID = -919201640201914789L;
 
-    private static final int BASE_16 = 16;
+    // Number of decimal octets in an IPv4 address
+    private static final int IPV4_OCTETS = 4;
 
-    private static final long serialVersionUID = -919201640201914789L;
+    // Max decimal digits in each IPv4 octet
+    private static final int IPV4_MAX_DIGITS_PER_OCTET = 3;
 
-    private static final String IPV4_REGEX =
-            "^(\\d{1,3})\\.(\\d{1,3})\\.(\\d{1,3})\\.(\\d{1,3})$";
+    /**
+     * {@link #parseInet4Address(CharSequence)} 在地址无效时的返回值
+     */
+    public static final long INVALID_INET4_ADDRESS = -1L;
 
     // Max number of hex groups (separated by :) in an IPV6 address
     private static final int IPV6_MAX_HEX_GROUPS = 8;
@@ -33,14 +34,22 @@ public class InetAddressValidator implements Serializable {
     // Max hex digits in each IPv6 group
     private static final int IPV6_MAX_HEX_DIGITS_PER_GROUP = 4;
 
+    // Max value of an IPv6 prefix length
+    private static final int IPV6_MAX_PREFIX_LENGTH = 128;
+
+    // Max decimal digits in an IPv6 prefix length
+    private static final int IPV6_MAX_PREFIX_DIGITS = 3;
+
+    // IPv4-mapped IPv6 addresses (::ffff:0:0/96): the upper 96 bits
+    private static final long IPV4_MAPPED_PREFIX = 0xFFFFL;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     /**
      * Singleton instance of this class.
      */
     private static final InetAddressValidator VALIDATOR = new InetAddressValidator();
 
-    /** IPv4 RegexValidator */
-    private final RegexValidator ipv4Validator = new RegexValidator(IPV4_REGEX);
-
     /**
      * Returns the singleton instance of this validator.
      * @return the singleton instance of this validator
@@ -49,6 +58,26 @@ public class InetAddressValidator implements Serializable {
         return VALIDATOR;
     }
 
+    private static class ScratchHolder { // IODH
+
+        /**
+         * 每个线程重复使用的 IPv6 解析结果，避免每次解析都创建对象
+         */
+        private static final ThreadLocal<ParsedInet6Address> PARSED_INET6 = new ThreadLocal<ParsedInet6Address>() {
+            @Override
+            protected ParsedInet6Address initialValue() {
+                return new ParsedInet6Address();
+            }
+        };
+    }
+
+    /**
+     * 当前线程可重复使用的 IPv6 解析结果，只能在解析后立即读取，不能跨越其他可能使用它的调用
+     */
+    static ParsedInet6Address scratchInet6Address() {
+        return ScratchHolder.PARSED_INET6.get();
+    }
+
     /**
      * Checks if the specified string is a valid IP address.
      * @param inetAddress the string to validate
@@ -58,44 +87,76 @@ public class InetAddressValidator implements Serializable {
         return isValidInet4Address(inetAddress) || isValidInet6Address(inetAddress);
     }
 
+    /**
+     * 校验字符序列 {@code [start, end)} 区间内的 IP 地址，规则与 {@link #isValid(String)} 相同。
+     * 合法的 IPv4 地址不含冒号，合法的 IPv6 地址必然含有冒号，因此只需按是否含有冒号选择其中一种校验。
+     */
+    boolean isValid(CharSequence inetAddress, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (inetAddress.charAt(i) == ':') {
+                return parseInet6Address(inetAddress, start, end, null);
+            }
+        }
+        return parseInet4Address(inetAddress, start, end) != INVALID_INET4_ADDRESS;
+    }
+
     /**
      * Validates an IPv4 address. Returns true if valid.
      * @param inet4Address the IPv4 address to validate
      * @return true if the argument contains a valid IPv4 address
      */
     public boolean isValidInet4Address(String inet4Address) {
-        // verify that address conforms to generic IPv4 format
-        String[] groups = ipv4Validator.match(inet4Address);
+        return inet4Address != null
+                && parseInet4Address(inet4Address, 0, inet4Address.length()) != INVALID_INET4_ADDRESS;
+    }
 
-        if (groups == null) {
-            return false;
+    /**
+     * 解析点分十进制的 IPv4 地址，规则与 {@link #isValidInet4Address(String)} 相同：
+     * 恰好 4 段，每段为 1 到 3 位 ASCII 数字，不大于 255，且除 0 本身外不能以 0 开头。
+     * 解析过程不创建任何对象。
+     *
+     * @param inet4Address 需要解析的地址
+     * @return 地址的 32 位无符号整数值（第一段位于最高字节），无效时返回 {@link #INVALID_INET4_ADDRESS}
+     */
+    public static long parseInet4Address(CharSequence inet4Address) {
+        if (inet4Address == null) {
+            return INVALID_INET4_ADDRESS;
         }
+        return parseInet4Address(inet4Address, 0, inet4Address.length());
+    }
 
-        // verify that address subgroups are legal
-        for (String ipSegment : groups) {
-            if (ipSegment == null || ipSegment.length() == 0) {
-                return false;
+    /**
+     * 解析字符序列 {@code [start, end)} 区间内的 IPv4 地址
+     */
+    static long parseInet4Address(CharSequence inet4Address, int start, int end) {
+        long address = 0;
+        int octets = 0;
+        int i = start;
+        while (true) {
+            final int octetStart = i;
+            int octet = 0;
+            while (i < end && i - octetStart < IPV4_MAX_DIGITS_PER_OCTET) {
+                final char c = inet4Address.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                octet = octet * 10 + (c - '0');
+                i++;
             }
-
-            int iIpSegment = 0;
-
-            try {
-                iIpSegment = Integer.parseInt(ipSegment);
-            } catch(NumberFormatException e) {
-                return false;
+            final int digits = i - octetStart;
+            if (digits == 0 || octet > IPV4_MAX_OCTET_VALUE
+                    || (digits > 1 && inet4Address.charAt(octetStart) == '0')) {
+                return INVALID_INET4_ADDRESS;
             }
-
-            if (iIpSegment > IPV4_MAX_OCTET_VALUE) {
-                return false;
+            address = (address << 8) | octet;
+            if (++octets == IPV4_OCTETS) {
+                return i == end ? address : INVALID_INET4_ADDRESS;
             }
-
-            if (ipSegment.length() > 1 && ipSegment.startsWith("0")) {
-                return false;
+            if (i == end || inet4Address.charAt(i) != '.') {
+                return INVALID_INET4_ADDRESS;
             }
-
+            i++;
         }
-
-        return true;
     }
 
     /**
@@ -106,93 +167,389 @@ public class InetAddressValidator implements Serializable {
      * @since 1.4.1
      */
     public boolean isValidInet6Address(String inet6Address) {
-        String[] parts;
-        // remove prefix size. This will appear after the zone id (if any)
-        parts = inet6Address.split("/", -1);
-        if (parts.length > 2) {
-            return false; // can only have one prefix specifier
-        }
-        if (parts.length == 2) {
-            if (parts[1].matches("\\d{1,3}")) { // Need to eliminate signs
-                int bits = Integer.parseInt(parts[1]); // cannot fail because of RE check
-                if (bits < 0 || bits > 128) {
-                    return false; // out of range
-                }
-            } else {
-                return false; // not a valid number
+        return inet6Address != null && parseInet6Address(inet6Address, 0, inet6Address.length(), null);
+    }
+
+    /**
+     * 单次遍历解析 IPv6 地址，规则与 {@link #isValidInet6Address(String)} 相同：
+     * <ul>
+     * <li>8 组 1 到 4 位的 ASCII 十六进制数字，以冒号分隔；</li>
+     * <li>:: 最多出现一次，代表至少一组 0，因此压缩形式中最多有 7 组；</li>
+     * <li>最后可以是一个 IPv4 地址，算作 2 组；</li>
+     * <li>之后可以跟随 % 与非空的区域标识（不含空白字符、/ 和 %），再跟随 / 与 1 到 3 位、不大于 128 的前缀长度。</li>
+     * </ul>
+     * 解析过程不创建任何对象。
+     *
+     * @param inet6Address 需要解析的地址
+     * @param result       用于保存解析结果，可以为 null（只校验）；地址无效时其内容不变
+     * @return 如果地址有效则返回 true
+     */
+    public static boolean parseInet6Address(CharSequence inet6Address, ParsedInet6Address result) {
+        return inet6Address != null && parseInet6Address(inet6Address, 0, inet6Address.length(), result);
+    }
+
+    /**
+     * 解析字符序列 {@code [start, end)} 区间内的 IPv6 地址，区域标识的位置是相对于整个字符序列的
+     */
+    static boolean parseInet6Address(CharSequence inet6Address, int start, int end, ParsedInet6Address result) {
+        // 地址部分到第一个 % 或 / 为止
+        int addressEnd = start;
+        while (addressEnd < end) {
+            final char c = inet6Address.charAt(addressEnd);
+            if (c == '%' || c == '/') {
+                break;
             }
+            addressEnd++;
         }
-        // remove zone-id
-        parts = parts[0].split("%", -1);
-        if (parts.length > 2) {
-            return false;
-        } else if (parts.length == 2){
-            // The id syntax is implemenatation independent, but it presumably cannot allow:
-            // whitespace, '/' or '%'
-            if (!parts[1].matches("[^\\s/%]+")) {
-                return false; // invalid id
+        int zoneStart = -1;
+        int zoneEnd = -1;
+        int position = addressEnd;
+        if (position < end && inet6Address.charAt(position) == '%') {
+            zoneStart = ++position;
+            while (position < end && inet6Address.charAt(position) != '/') {
+                final char c = inet6Address.charAt(position);
+                if (c == '%' || isWhitespace(c)) {
+                    return false;
+                }
+                position++;
             }
+            if (position == zoneStart) {
+                return false;
+            }
+            zoneEnd = position;
         }
-        inet6Address = parts[0];
-        boolean containsCompressedZeroes = inet6Address.contains("::");
-        if (containsCompressedZeroes && (inet6Address.indexOf("::") != inet6Address.lastIndexOf("::"))) {
-            return false;
-        }
-        if ((inet6Address.startsWith(":") && !inet6Address.startsWith("::"))
-                || (inet6Address.endsWith(":") && !inet6Address.endsWith("::"))) {
-            return false;
-        }
-        String[] octets = inet6Address.split(":");
-        if (containsCompressedZeroes) {
-            List<String> octetList = new ArrayList<String>(Arrays.asList(octets));
-            if (inet6Address.endsWith("::")) {
-                // String.split() drops ending empty segments
-                octetList.add("");
-            } else if (inet6Address.startsWith("::") && !octetList.isEmpty()) {
-                octetList.remove(0);
+        int prefixLength = -1;
+        if (position < end) { // '/'
+            final int prefixStart = ++position;
+            prefixLength = 0;
+            while (position < end) {
+                final char c = inet6Address.charAt(position);
+                if (c < '0' || c > '9' || position - prefixStart == IPV6_MAX_PREFIX_DIGITS) {
+                    return false;
+                }
+                prefixLength = prefixLength * 10 + (c - '0');
+                position++;
+            }
+            if (position == prefixStart || prefixLength > IPV6_MAX_PREFIX_LENGTH) {
+                return false;
             }
-            octets = octetList.toArray(new String[octetList.size()]);
         }
-        if (octets.length > IPV6_MAX_HEX_GROUPS) {
-            return false;
+
+        // 分别累加 :: 之前与之后的组，最后再拼接
+        long headHigh = 0;
+        long headLow = 0;
+        long tailHigh = 0;
+        long tailLow = 0;
+        int groups = 0;
+        int headGroups = -1; // :: 之前的组数，没有 :: 时为 -1
+        int i = start;
+        if (i < addressEnd && inet6Address.charAt(i) == ':') {
+            if (i + 1 == addressEnd || inet6Address.charAt(i + 1) != ':') {
+                return false;
+            }
+            headGroups = 0;
+            i += 2;
+            if (i < addressEnd && inet6Address.charAt(i) == ':') {
+                return false;
+            }
         }
-        int validOctets = 0;
-        int emptyOctets = 0; // consecutive empty chunks
-        for (int index = 0; index < octets.length; index++) {
-            String octet = octets[index];
-            if (octet.length() == 0) {
-                emptyOctets++;
-                if (emptyOctets > 1) {
+        while (i < addressEnd || (headGroups < 0 && groups == 0)) {
+            int value = 0;
+            int j = i;
+            while (j < addressEnd) {
+                final int digit = hexDigit(inet6Address.charAt(j));
+                if (digit < 0) {
+                    break;
+                }
+                value = (value << 4) | digit;
+                j++;
+            }
+            final int groupCount;
+            if (j < addressEnd && inet6Address.charAt(j) == '.') {
+                // 最后一组是 IPv4 地址
+                final long inet4 = parseInet4Address(inet6Address, i, addressEnd);
+                if (inet4 == INVALID_INET4_ADDRESS) {
                     return false;
                 }
+                value = (int) inet4;
+                groupCount = 2;
+                j = addressEnd;
             } else {
-                emptyOctets = 0;
-                // Is last chunk an IPv4 address?
-                if (index == octets.length - 1 && octet.contains(".")) {
-                    if (!isValidInet4Address(octet)) {
-                        return false;
-                    }
-                    validOctets += 2;
-                    continue;
-                }
-                if (octet.length() > IPV6_MAX_HEX_DIGITS_PER_GROUP) {
+                if (j == i || j - i > IPV6_MAX_HEX_DIGITS_PER_GROUP) {
                     return false;
                 }
-                int octetInt = 0;
-                try {
-                    octetInt = Integer.parseInt(octet, BASE_16);
-                } catch (NumberFormatException e) {
-                    return false;
+                groupCount = 1;
+            }
+            groups += groupCount;
+            if (groups > IPV6_MAX_HEX_GROUPS) {
+                return false;
+            }
+            final int shift = groupCount << 4;
+            final long mask = (1L << shift) - 1;
+            if (headGroups < 0) {
+                headHigh = (headHigh << shift) | (headLow >>> (64 - shift));
+                headLow = (headLow << shift) | (value & mask);
+            } else {
+                tailHigh = (tailHigh << shift) | (tailLow >>> (64 - shift));
+                tailLow = (tailLow << shift) | (value & mask);
+            }
+            if (j == addressEnd) {
+                break;
+            }
+            if (inet6Address.charAt(j) != ':' || ++j == addressEnd) {
+                return false; // 非法字符，或以单个冒号结尾
+            }
+            if (inet6Address.charAt(j) == ':') {
+                if (headGroups >= 0) {
+                    return false; // 第二个 ::
                 }
-                if (octetInt < 0 || octetInt > MAX_UNSIGNED_SHORT) {
-                    return false;
+                headGroups = groups;
+                if (++j < addressEnd && inet6Address.charAt(j) == ':') {
+                    return false; // :::
                 }
             }
-            validOctets++;
+            i = j;
         }
-        if (validOctets > IPV6_MAX_HEX_GROUPS || (validOctets < IPV6_MAX_HEX_GROUPS && !containsCompressedZeroes)) {
+        if (headGroups < 0 ? groups != IPV6_MAX_HEX_GROUPS : groups >= IPV6_MAX_HEX_GROUPS) {
             return false;
         }
+        if (result != null) {
+            if (headGroups >= 0) {
+                // :: 之前的组移到最高位，之后的组保持在最低位
+                final int shift = (IPV6_MAX_HEX_GROUPS - headGroups) << 4;
+                if (shift >= 64) {
+                    headHigh = shift == 128 ? 0 : headLow << (shift - 64);
+                    headLow = 0;
+                } else {
+                    headHigh = (headHigh << shift) | (headLow >>> (64 - shift));
+                    headLow <<= shift;
+                }
+                headHigh |= tailHigh;
+                headLow |= tailLow;
+            }
+            result.set(headHigh, headLow, prefixLength, zoneStart, zoneEnd);
+        }
         return true;
     }
+
+    /**
+     * 将地址的规范形式追加到 out 中。IPv4 地址为点分十进制；IPv6 地址按 RFC 5952 输出：
+     * 十六进制数字小写并省略前导 0，最长的连续两组及以上的 0 压缩为 ::（长度相同时取第一处），
+     * IPv4 映射地址（::ffff:0:0/96）的最后 32 位写作点分十进制；区域标识原样保留，前缀长度去掉前导 0。
+     * 除 out 扩容外不创建任何对象。
+     *
+     * @param address 需要规范化的地址，规则与 {@link #isValid(String)} 相同
+     * @param out     用于追加规范形式
+     * @return 如果地址有效则返回 true；地址无效时 out 保持不变
+     */
+    public static boolean appendCanonical(CharSequence address, StringBuilder out) {
+        return address != null && writeCanonical(address, null, 0, out) >= 0;
+    }
+
+    /**
+     * 将地址的规范形式写入 dest 中 offset 开始的位置，规则与 {@link #appendCanonical(CharSequence, StringBuilder)} 相同。
+     * 不带区域标识与前缀长度时规范形式最多 39 个字符。
+     *
+     * @param address 需要规范化的地址
+     * @param dest    用于写入规范形式
+     * @param offset  开始写入的位置
+     * @return 写入结束的位置（不包含）；地址无效时返回 -1，dest 保持不变
+     * @throws IndexOutOfBoundsException 如果 dest 的剩余空间不足，此时 dest 中可能已写入部分字符
+     */
+    public static int writeCanonical(CharSequence address, char[] dest, int offset) {
+        if (dest == null) {
+            throw new IllegalArgumentException("Destination cannot be null");
+        }
+        return address == null ? -1 : writeCanonical(address, dest, offset, null);
+    }
+
+    /**
+     * 返回地址的规范形式，规则与 {@link #appendCanonical(CharSequence, StringBuilder)} 相同。
+     * 返回的字符串经过 {@link String#intern()}，相同地址的规范形式是同一个对象，可以直接作为缓存的键；
+     * 输入本身已经是规范形式的 {@link String} 时不再创建新的字符串。
+     *
+     * @param address 需要规范化的地址
+     * @return 规范形式的地址，地址无效时返回 null
+     */
+    public static String toCanonicalString(CharSequence address) {
+        if (address == null) {
+            return null;
+        }
+        final int length = address.length();
+        // 规范形式最多比输入长 6 个字符：IPv4 映射地址的最后两组写作点分十进制时（ffff:ffff 变为 255.255.255.255）
+        final char[] buffer = new char[length + 6];
+        final int end = writeCanonical(address, buffer, 0, null);
+        if (end < 0) {
+            return null;
+        }
+        if (address instanceof String && end == length) {
+            int i = 0;
+            while (i < length && buffer[i] == address.charAt(i)) {
+                i++;
+            }
+            if (i == length) {
+                return ((String) address).intern();
+            }
+        }
+        return new String(buffer, 0, end).intern();
+    }
+
+    /**
+     * 将 IPv4 地址以点分十进制追加到 out 中
+     *
+     * @param address {@link #parseInet4Address(CharSequence)} 返回的地址
+     * @param out     用于追加地址
+     * @throws IllegalArgumentException 如果 address 不是有效的 32 位无符号整数
+     */
+    public static void appendInet4Address(long address, StringBuilder out) {
+        if (address < 0 || address > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("Invalid IPv4 address: " + address);
+        }
+        writeInet4(address, null, 0, out);
+    }
+
+    /**
+     * 将 IPv6 地址的 RFC 5952 规范形式追加到 out 中，例如已解析的 {@link ParsedInet6Address}，不再重新解析文本
+     *
+     * @param high 地址的高 64 位
+     * @param low  地址的低 64 位
+     * @param out  用于追加地址
+     */
+    public static void appendInet6Address(long high, long low, StringBuilder out) {
+        writeInet6(high, low, null, 0, out);
+    }
+
+    /*
+     * 规范形式写入 dest（不为 null 时）或追加到 out，返回写入结束的位置，地址无效时返回 -1 且不写入任何字符
+     */
+    private static int writeCanonical(CharSequence address, char[] dest, int offset, StringBuilder out) {
+        final int length = address.length();
+        for (int i = 0; i < length; i++) {
+            if (address.charAt(i) == ':') {
+                return writeCanonicalInet6(address, length, dest, offset, out);
+            }
+        }
+        final long inet4 = parseInet4Address(address, 0, length);
+        return inet4 == INVALID_INET4_ADDRESS ? -1 : writeInet4(inet4, dest, offset, out);
+    }
+
+    private static int writeCanonicalInet6(CharSequence address, int length, char[] dest, int offset,
+                                           StringBuilder out) {
+        final ParsedInet6Address parsed = scratchInet6Address();
+        if (!parseInet6Address(address, 0, length, parsed)) {
+            return -1;
+        }
+        int position = writeInet6(parsed.getHigh(), parsed.getLow(), dest, offset, out);
+        if (parsed.hasZone()) {
+            position = put('%', dest, position, out);
+            for (int i = parsed.getZoneStart(); i < parsed.getZoneEnd(); i++) {
+                position = put(address.charAt(i), dest, position, out);
+            }
+        }
+        final int prefixLength = parsed.getPrefixLength();
+        if (prefixLength >= 0) {
+            position = put('/', dest, position, out);
+            if (prefixLength >= 100) {
+                position = put((char) ('0' + prefixLength / 100), dest, position, out);
+            }
+            if (prefixLength >= 10) {
+                position = put((char) ('0' + prefixLength / 10 % 10), dest, position, out);
+            }
+            position = put((char) ('0' + prefixLength % 10), dest, position, out);
+        }
+        return position;
+    }
+
+    private static int writeInet4(long address, char[] dest, int position, StringBuilder out) {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            final int octet = (int) (address >>> shift) & 0xFF;
+            if (octet >= 100) {
+                position = put((char) ('0' + octet / 100), dest, position, out);
+            }
+            if (octet >= 10) {
+                position = put((char) ('0' + octet / 10 % 10), dest, position, out);
+            }
+            position = put((char) ('0' + octet % 10), dest, position, out);
+            if (shift > 0) {
+                position = put('.', dest, position, out);
+            }
+        }
+        return position;
+    }
+
+    private static int writeInet6(long high, long low, char[] dest, int position, StringBuilder out) {
+        if (high == 0 && (low >>> 32) == IPV4_MAPPED_PREFIX) {
+            for (int i = 0; i < 7; i++) {
+                position = put("::ffff:".charAt(i), dest, position, out);
+            }
+            return writeInet4(low & 0xFFFFFFFFL, dest, position, out);
+        }
+        // 最长的连续 0 组，至少两组才压缩
+        int runStart = -1;
+        int runLength = 1;
+        for (int i = 0; i < IPV6_MAX_HEX_GROUPS; ) {
+            if (group(high, low, i) != 0) {
+                i++;
+                continue;
+            }
+            int j = i + 1;
+            while (j < IPV6_MAX_HEX_GROUPS && group(high, low, j) == 0) {
+                j++;
+            }
+            if (j - i > runLength) {
+                runStart = i;
+                runLength = j - i;
+            }
+            i = j;
+        }
+        for (int i = 0; i < IPV6_MAX_HEX_GROUPS; i++) {
+            if (i == runStart) {
+                position = put(':', dest, position, out);
+                if (i == 0) {
+                    position = put(':', dest, position, out);
+                }
+                i += runLength - 1;
+                continue;
+            }
+            final int value = group(high, low, i);
+            for (int shift = value == 0 ? 0 : (31 - Integer.numberOfLeadingZeros(value)) & ~3; shift >= 0; shift -= 4) {
+                position = put(HEX_DIGITS[(value >>> shift) & 0xF], dest, position, out);
+            }
+            if (i < IPV6_MAX_HEX_GROUPS - 1) {
+                position = put(':', dest, position, out);
+            }
+        }
+        return position;
+    }
+
+    private static int group(long high, long low, int index) {
+        return (int) ((index < 4 ? high : low) >>> ((3 - (index & 3)) << 4)) & 0xFFFF;
+    }
+
+    private static int put(char c, char[] dest, int position, StringBuilder out) {
+        if (dest != null) {
+            dest[position] = c;
+        } else {
+            out.append(c);
+        }
+        return position + 1;
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    // 与 \s 一致，只匹配 ASCII 空白字符
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 }
@@ -0,0 +1,869 @@
+/**
+ * Created by 郑明亮 on 2026/10/19 01:10.
+ */
+package com.alianga.valid.validator;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>线性时间的正则表达式匹配</p>
+ * 将 {@link RegexParser} 得到的语法树编译为 Thompson NFA，以码点为单位匹配整个输入（语义与 {@link java.util.regex.Matcher#matches()} 相同）：
+ * <ul>
+ * <li>只判断是否匹配时，使用按需构造的 DFA：每个 DFA 状态是一组 NFA 状态，转移在第一次用到时计算并缓存，
+ * 输入的每个码点只查一次转移表；</li>
+ * <li>需要捕获组时，正则表达式中的 $ 之后还有需要匹配的字符时，或者可以匹配空串的重复中含有 ^、$ 时，
+ * 使用 Pike VM 同时模拟所有 NFA 线程，线程按优先级排列，结果与回溯引擎的最左优先语义一致。</li>
+ * </ul>
+ * 两种方式的耗时都与 输入长度 × 程序长度 成正比，不会因回溯而出现指数级的耗时。
+ * 捕获组按 java.util.regex 的规则记录（包括匹配空串的迭代）；少数依赖其回溯细节的写法无法模拟，构造时抛出异常，
+ * 由调用者改用 java.util.regex。
+ * <p>
+ * DFA 的缓存可以被多个线程同时读写：状态对象创建后不再改变，转移表中的元素要么为 null（重新计算），
+ * 要么指向完整构造的状态；缓存的状态数量达到上限后，新的状态只在本次匹配中使用，不再缓存。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/19 01:10
+ */
+final class LinearRegex {
+
+    /**
+     * 程序的最大指令数，有界重复会按次数展开
+     */
+    private static final int MAX_PROGRAM_SIZE = 10000;
+
+    /**
+     * 记录捕获组时 Pike VM 去重表的最大长度：指令数 × 2 ^ 可以匹配空串的重复数
+     */
+    private static final int MAX_THREAD_STATES = 1 << 16;
+
+    /**
+     * DFA 缓存的最大状态数
+     */
+    private static final int MAX_DFA_STATES = 2000;
+
+    private static final int MATCH = 0;
+    private static final int CHAR_CLASS = 1;
+    private static final int JUMP = 2;
+    private static final int SPLIT = 3;
+    private static final int SAVE = 4;
+    private static final int BEGIN = 5;
+    private static final int END = 6;
+    private static final int MARK = 7;
+    private static final int PROGRESS = 8;
+
+    private final int groupCount;
+
+    private final boolean caseInsensitive;
+
+    /**
+     * 可以匹配空串的重复的数量，每个重复在 Pike VM 的线程中占用一个位置，记录本次迭代的起点
+     */
+    private int loopCount;
+
+    /**
+     * 编译时外层可以重复多次的重复的层数
+     */
+    private int repeatDepth;
+
+    /**
+     * 编译时外层的选择分支与次数可变的重复的层数，处于其中的子表达式失败后还可能通过其他路径匹配成功
+     */
+    private int backtrackDepth;
+
+    /**
+     * 是否存在含有 ^、$ 且可以匹配空串的重复。java.util.regex 在一次迭代没有前进时结束整个重复（即使未达到最少次数），
+     * 此时能否匹配取决于迭代的起点，DFA 无法表示，只判断是否匹配时也需要在 Pike VM 中记录迭代的起点
+     */
+    private boolean anchoredLoop;
+
+    // 指令：操作码，参数（JUMP、SPLIT 的优先目标，SAVE、MARK、PROGRESS 的位置下标），
+    // SPLIT 的次要目标与 PROGRESS 没有前进时的目标，CHAR_CLASS 的码点区间
+    private int[] opcodes = new int[16];
+    private int[] arguments = new int[16];
+    private int[] alternatives = new int[16];
+    private int[][] classes = new int[16][];
+    private int size;
+
+    /**
+     * 是否存在 $ 之后还需要匹配字符的情况，或者存在 {@link #anchoredLoop}，此时只使用 Pike VM
+     */
+    private final boolean needsPikeVm;
+
+    /**
+     * 码点的等价类边界：所有字符类区间的起点与终点 + 1，已排序
+     */
+    private final int[] boundaries;
+
+    private final int[] asciiClasses = new int[128];
+
+    private final ConcurrentHashMap<StateKey, State> states = new ConcurrentHashMap<StateKey, State>();
+
+    private final State startState;
+
+    /**
+     * @param root            语法树的根节点
+     * @param groupCount      捕获组的数量
+     * @param caseInsensitive 是否不区分大小写（只比较 ASCII 字母）
+     * @throws IllegalArgumentException 正则表达式无法编译为线性时间的程序
+     */
+    LinearRegex(RegexNode root, int groupCount, boolean caseInsensitive) {
+        this.groupCount = groupCount;
+        this.caseInsensitive = caseInsensitive;
+        emit(SAVE, 0, 0, null);
+        compile(root);
+        emit(SAVE, 1, 0, null);
+        emit(MATCH, 0, 0, null);
+        if (loopCount >= Integer.SIZE || (long) size << loopCount > MAX_THREAD_STATES) {
+            throw new IllegalArgumentException("Too many repetitions that can match the empty string");
+        }
+        opcodes = Arrays.copyOf(opcodes, size);
+        arguments = Arrays.copyOf(arguments, size);
+        alternatives = Arrays.copyOf(alternatives, size);
+        classes = Arrays.copyOf(classes, size);
+
+        boolean pike = false;
+        int[] bounds = new int[16];
+        int count = 0;
+        for (int pc = 0; pc < size; pc++) {
+            if (opcodes[pc] == END && !onlyMatchFollows(pc + 1)) {
+                pike = true;
+            }
+            if (opcodes[pc] == CHAR_CLASS) {
+                final int[] ranges = classes[pc];
+                for (int i = 0; i < ranges.length; i += 2) {
+                    if (count + 2 > bounds.length) {
+                        bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                    }
+                    bounds[count++] = ranges[i];
+                    bounds[count++] = ranges[i + 1] + 1;
+                }
+            }
+        }
+        needsPikeVm = pike || anchoredLoop;
+        bounds = Arrays.copyOf(bounds, count);
+        Arrays.sort(bounds);
+        int unique = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            if (unique == 0 || bounds[unique - 1] != bounds[i]) {
+                bounds[unique++] = bounds[i];
+            }
+        }
+        boundaries = Arrays.copyOf(bounds, unique);
+        for (int c = 0; c < asciiClasses.length; c++) {
+            asciiClasses[c] = classOf(c);
+        }
+        startState = pike ? null : state(closure(new int[]{0}, 1, true));
+    }
+
+    /**
+     * @return 是否匹配整个输入
+     */
+    boolean matches(CharSequence input) {
+        if (needsPikeVm) {
+            return pikeVm(input, anchoredLoop) != null;
+        }
+        State state = startState;
+        final int length = input.length();
+        int i = 0;
+        while (i < length) {
+            final int codePoint = Character.codePointAt(input, i);
+            i += Character.charCount(codePoint);
+            final int equivalence = codePoint < 128 ? asciiClasses[codePoint] : classOf(codePoint);
+            State next = state.next[equivalence];
+            if (next == null) {
+                next = step(state, equivalence, codePoint);
+            }
+            if (next.dead) {
+                return false;
+            }
+            state = next;
+        }
+        return state.accepting;
+    }
+
+    /**
+     * @return 匹配时返回每个组的起止位置，下标 2g、2g + 1 为第 g 组，未参与匹配的组为 -1；不匹配时返回 null。
+     * 数组末尾可能还有内部使用的位置
+     */
+    int[] captures(CharSequence input) {
+        if (!needsPikeVm && !matches(input)) {
+            // 不匹配的输入由 DFA 直接排除
+            return null;
+        }
+        return pikeVm(input, true);
+    }
+
+    /**
+     * @return 捕获组的数量
+     */
+    int getGroupCount() {
+        return groupCount;
+    }
+
+    // ---------------------------------------------------------------- 编译
+
+    private int emit(int opcode, int argument, int alternative, int[] ranges) {
+        if (size == MAX_PROGRAM_SIZE) {
+            throw new IllegalArgumentException("Pattern is too large for the linear engine");
+        }
+        if (size == opcodes.length) {
+            final int capacity = size * 2;
+            opcodes = Arrays.copyOf(opcodes, capacity);
+            arguments = Arrays.copyOf(arguments, capacity);
+            alternatives = Arrays.copyOf(alternatives, capacity);
+            classes = Arrays.copyOf(classes, capacity);
+        }
+        opcodes[size] = opcode;
+        arguments[size] = argument;
+        alternatives[size] = alternative;
+        classes[size] = ranges;
+        return size++;
+    }
+
+    private void compile(RegexNode node) {
+        switch (node.type) {
+            case RegexNode.LITERAL:
+                compileLiteral(node.codePoint);
+                break;
+            case RegexNode.CHAR_CLASS:
+                emit(CHAR_CLASS, 0, 0, node.ranges);
+                break;
+            case RegexNode.CONCAT:
+                for (RegexNode child : node.children) {
+                    compile(child);
+                }
+                break;
+            case RegexNode.ALTERNATE:
+                backtrackDepth++;
+                compileAlternate(node.children);
+                backtrackDepth--;
+                break;
+            case RegexNode.GROUP:
+                emit(SAVE, 2 * node.group, 0, null);
+                compile(node.children[0]);
+                emit(SAVE, 2 * node.group + 1, 0, null);
+                break;
+            case RegexNode.REPEAT:
+                compileRepeat(node);
+                break;
+            case RegexNode.BEGIN:
+                emit(BEGIN, 0, 0, null);
+                break;
+            case RegexNode.END:
+                emit(END, 0, 0, null);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown node type: " + node.type);
+        }
+    }
+
+    private void compileLiteral(int codePoint) {
+        if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            // java.util.regex 按 char 比较连续的字面字符，单独的代理项可能匹配代理对的一半
+            throw new IllegalArgumentException("Unsupported regex syntax: lone surrogate literal");
+        }
+        final int lower = RegexParser.toAsciiLower(codePoint);
+        if (caseInsensitive && lower >= 'a' && lower <= 'z') {
+            final int upper = lower - ('a' - 'A');
+            emit(CHAR_CLASS, 0, 0, new int[]{upper, upper, lower, lower});
+        } else {
+            emit(CHAR_CLASS, 0, 0, new int[]{codePoint, codePoint});
+        }
+    }
+
+    private void compileAlternate(RegexNode[] children) {
+        final int[] jumps = new int[children.length - 1];
+        for (int i = 0; i < children.length - 1; i++) {
+            final int split = emit(SPLIT, 0, 0, null);
+            arguments[split] = size;
+            compile(children[i]);
+            jumps[i] = emit(JUMP, 0, 0, null);
+            alternatives[split] = size;
+        }
+        compile(children[children.length - 1]);
+        for (int jump : jumps) {
+            arguments[jump] = size;
+        }
+    }
+
+    /*
+     * java.util.regex 在一次迭代没有前进时结束整个重复（保留这次迭代的捕获组），
+     * 子表达式可以匹配空串时用 MARK 记录迭代的起点，迭代结束时用 PROGRESS 检查是否前进
+     */
+    private void compileRepeat(RegexNode node) {
+        if (node.min > MAX_PROGRAM_SIZE || node.max > MAX_PROGRAM_SIZE) {
+            throw new IllegalArgumentException("Pattern is too large for the linear engine");
+        }
+        final RegexNode child = node.children[0];
+        final boolean multiple = node.max == RegexNode.UNBOUNDED || node.max > 1;
+        final int length = fixedLength(child);
+        if (repeatDepth > 0 && multiple && node.max != node.min && length > 0 && containsGroup(child)) {
+            // java.util.regex 对长度固定的重复回溯时会用外层迭代中保存的位置覆盖捕获组，结果无法按线程模拟
+            throw new IllegalArgumentException(
+                    "Unsupported regex syntax: repeated fixed-length capturing group inside another repetition");
+        }
+        if (multiple && length >= 0 && (node.max != node.min || backtrackDepth > 0)
+                && containsGroup(child.type == RegexNode.GROUP ? child.children[0] : child)) {
+            // 长度固定的重复失败或回退时，java.util.regex 不恢复其内部的捕获组，之后匹配成功的路径可能带有这些值
+            throw new IllegalArgumentException(
+                    "Unsupported regex syntax: capturing group inside a repeated fixed-length group");
+        }
+        final int depth = multiple ? 1 : 0;
+        final int backtrack = node.max != node.min ? 1 : 0;
+        repeatDepth += depth;
+        backtrackDepth += backtrack;
+        if (multiple && length == 0) {
+            compileEmptyRepeat(node, child);
+        } else {
+            compileRepeat(node, child);
+        }
+        repeatDepth -= depth;
+        backtrackDepth -= backtrack;
+    }
+
+    /*
+     * 长度固定为 0 的子表达式重复多次时，java.util.regex 在必须的次数之后（贪婪模式下）最多再执行一次，
+     * 这一次只记录内部的捕获组，不记录被重复的捕获组本身
+     */
+    private void compileEmptyRepeat(RegexNode node, RegexNode child) {
+        for (int i = 0; i < node.min; i++) {
+            compile(child);
+        }
+        if (node.min == 0 && node.greedy) {
+            final int split = emit(SPLIT, 0, 0, null);
+            compile(child.type == RegexNode.GROUP ? child.children[0] : child);
+            branch(split, split + 1, size, true);
+        }
+    }
+
+    private void compileRepeat(RegexNode node, RegexNode child) {
+        final int slot = nullable(child) ? 2 * (groupCount + 1) + loopCount++ : -1;
+        if (slot >= 0 && containsAnchor(child)) {
+            anchoredLoop = true;
+        }
+        final int iterations = node.max == RegexNode.UNBOUNDED ? node.min + 1 : node.max;
+        final int[] exits = new int[iterations];
+        int count = 0;
+        for (int i = 0; i < node.min; i++) {
+            count = compileIteration(child, slot, exits, count);
+        }
+        if (node.max == RegexNode.UNBOUNDED) {
+            final int split = emit(SPLIT, 0, 0, null);
+            count = compileIteration(child, slot, exits, count);
+            emit(JUMP, split, 0, null);
+            branch(split, split + 1, size, node.greedy);
+        } else {
+            final int optional = node.max - node.min;
+            final int[] splits = new int[optional];
+            for (int i = 0; i < optional; i++) {
+                splits[i] = emit(SPLIT, 0, 0, null);
+                count = compileIteration(child, slot, exits, count);
+            }
+            for (int split : splits) {
+                branch(split, split + 1, size, node.greedy);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            alternatives[exits[i]] = size;
+        }
+    }
+
+    private int compileIteration(RegexNode child, int slot, int[] exits, int count) {
+        if (slot < 0) {
+            compile(child);
+            return count;
+        }
+        emit(MARK, slot, 0, null);
+        compile(child);
+        exits[count] = emit(PROGRESS, slot, 0, null);
+        return count + 1;
+    }
+
+    /*
+     * 不含选择与可变次数重复的子表达式的固定长度（码点数），否则返回 -1
+     */
+    private static int fixedLength(RegexNode node) {
+        switch (node.type) {
+            case RegexNode.LITERAL:
+            case RegexNode.CHAR_CLASS:
+                return 1;
+            case RegexNode.CONCAT:
+                int length = 0;
+                for (RegexNode child : node.children) {
+                    final int childLength = fixedLength(child);
+                    if (childLength < 0) {
+                        return -1;
+                    }
+                    length += childLength;
+                }
+                return length;
+            case RegexNode.ALTERNATE:
+                return -1;
+            case RegexNode.GROUP:
+                return fixedLength(node.children[0]);
+            case RegexNode.REPEAT:
+                if (node.min != node.max) {
+                    return -1;
+                }
+                final int childLength = fixedLength(node.children[0]);
+                return childLength < 0 ? -1 : childLength * node.min;
+            default:
+                return 0;
+        }
+    }
+
+    private static boolean containsGroup(RegexNode node) {
+        if (node.type == RegexNode.GROUP) {
+            return true;
+        }
+        if (node.children != null) {
+            for (RegexNode child : node.children) {
+                if (containsGroup(child)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAnchor(RegexNode node) {
+        if (node.type == RegexNode.BEGIN || node.type == RegexNode.END) {
+            return true;
+        }
+        if (node.children != null) {
+            for (RegexNode child : node.children) {
+                if (containsAnchor(child)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /*
+     * 是否可以匹配空串
+     */
+    private static boolean nullable(RegexNode node) {
+        switch (node.type) {
+            case RegexNode.LITERAL:
+            case RegexNode.CHAR_CLASS:
+                return false;
+            case RegexNode.CONCAT:
+                for (RegexNode child : node.children) {
+                    if (!nullable(child)) {
+                        return false;
+                    }
+                }
+                return true;
+            case RegexNode.ALTERNATE:
+                for (RegexNode child : node.children) {
+                    if (nullable(child)) {
+                        return true;
+                    }
+                }
+                return false;
+            case RegexNode.GROUP:
+                return nullable(node.children[0]);
+            case RegexNode.REPEAT:
+                return node.min == 0 || nullable(node.children[0]);
+            default:
+                return true;
+        }
+    }
+
+    /*
+     * 贪婪时优先进入 body，否则优先跳过
+     */
+    private void branch(int split, int body, int out, boolean greedy) {
+        arguments[split] = greedy ? body : out;
+        alternatives[split] = greedy ? out : body;
+    }
+
+    /*
+     * 从 pc 出发不消耗字符只能到达 MATCH，此时 $ 只可能在输入的结尾成立，可以视为空操作
+     */
+    private boolean onlyMatchFollows(int pc) {
+        final boolean[] visited = new boolean[opcodes.length];
+        final int[] stack = new int[opcodes.length];
+        int top = 0;
+        stack[top++] = pc;
+        while (top > 0) {
+            final int current = stack[--top];
+            if (visited[current]) {
+                continue;
+            }
+            visited[current] = true;
+            switch (opcodes[current]) {
+                case CHAR_CLASS:
+                    return false;
+                case JUMP:
+                    stack[top++] = arguments[current];
+                    break;
+                case SPLIT:
+                    stack[top++] = arguments[current];
+                    stack[top++] = alternatives[current];
+                    break;
+                case PROGRESS:
+                    stack[top++] = current + 1;
+                    stack[top++] = alternatives[current];
+                    break;
+                case MATCH:
+                    break;
+                default:
+                    stack[top++] = current + 1;
+                    break;
+            }
+        }
+        return true;
+    }
+
+    // ---------------------------------------------------------------- DFA
+
+    private int classOf(int codePoint) {
+        int low = 0;
+        int high = boundaries.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (boundaries[middle] <= codePoint) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private State step(State state, int equivalence, int codePoint) {
+        final int[] targets = new int[state.pcs.length];
+        int count = 0;
+        for (int pc : state.pcs) {
+            if (opcodes[pc] == CHAR_CLASS && contains(classes[pc], codePoint)) {
+                targets[count++] = pc + 1;
+            }
+        }
+        final State next = state(closure(targets, count, false));
+        if (next.cached) {
+            state.next[equivalence] = next;
+        }
+        return next;
+    }
+
+    /*
+     * 不消耗字符能够到达的 CHAR_CLASS 与 MATCH 指令，已排序
+     */
+    private int[] closure(int[] pcs, int count, boolean atStart) {
+        final boolean[] visited = new boolean[size];
+        final int[] stack = new int[size + 1];
+        final int[] result = new int[size];
+        int found = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            int top = 0;
+            stack[top++] = pcs[i];
+            while (top > 0) {
+                final int pc = stack[--top];
+                if (visited[pc]) {
+                    continue;
+                }
+                visited[pc] = true;
+                switch (opcodes[pc]) {
+                    case CHAR_CLASS:
+                    case MATCH:
+                        result[found++] = pc;
+                        break;
+                    case JUMP:
+                        stack[top++] = arguments[pc];
+                        break;
+                    case SPLIT:
+                        stack[top++] = alternatives[pc];
+                        stack[top++] = arguments[pc];
+                        break;
+                    case PROGRESS:
+                        // 重复中没有 ^、$ 时（见 anchoredLoop），是否前进不影响能否匹配
+                        stack[top++] = alternatives[pc];
+                        stack[top++] = pc + 1;
+                        break;
+                    case BEGIN:
+                        if (atStart) {
+                            stack[top++] = pc + 1;
+                        }
+                        break;
+                    default:
+                        // SAVE、MARK，以及可以视为空操作的 END
+                        stack[top++] = pc + 1;
+                        break;
+                }
+            }
+        }
+        final int[] sorted = Arrays.copyOf(result, found);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private State state(int[] pcs) {
+        final StateKey key = new StateKey(pcs);
+        final State existing = states.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        boolean accepting = false;
+        for (int pc : pcs) {
+            if (opcodes[pc] == MATCH) {
+                accepting = true;
+                break;
+            }
+        }
+        final boolean cache = states.size() < MAX_DFA_STATES;
+        final State state = new State(pcs, accepting, boundaries.length + 1, cache);
+        if (cache) {
+            final State raced = states.putIfAbsent(key, state);
+            return raced != null ? raced : state;
+        }
+        return state;
+    }
+
+    private static boolean contains(int[] ranges, int codePoint) {
+        int low = 0;
+        int high = ranges.length / 2 - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (codePoint < ranges[2 * middle]) {
+                high = middle - 1;
+            } else if (codePoint > ranges[2 * middle + 1]) {
+                low = middle + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ---------------------------------------------------------------- Pike VM
+
+    /*
+     * 按优先级模拟所有线程；只判断是否匹配时不记录捕获组
+     */
+    private int[] pikeVm(CharSequence input, boolean capture) {
+        final int length = input.length();
+        final int slots = capture ? 2 * (groupCount + 1) + loopCount : 0;
+        final int loops = capture ? loopCount : 0;
+        ThreadList current = new ThreadList(size, loops);
+        ThreadList next = new ThreadList(size, loops);
+        final int[] initial = capture ? new int[slots] : null;
+        if (initial != null) {
+            Arrays.fill(initial, -1);
+        }
+        addThread(current, 0, initial, 0, input, length);
+        int i = 0;
+        while (true) {
+            if (i == length) {
+                for (int t = 0; t < current.count; t++) {
+                    if (opcodes[current.pcs[t]] == MATCH) {
+                        return capture ? current.captures[t] : new int[0];
+                    }
+                }
+                return null;
+            }
+            if (current.count == 0) {
+                return null;
+            }
+            final int codePoint = Character.codePointAt(input, i);
+            final int after = i + Character.charCount(codePoint);
+            next.clear();
+            for (int t = 0; t < current.count; t++) {
+                final int pc = current.pcs[t];
+                if (opcodes[pc] == CHAR_CLASS && contains(classes[pc], codePoint)) {
+                    addThread(next, pc + 1, current.captures[t], after, input, length);
+                }
+            }
+            final ThreadList swap = current;
+            current = next;
+            next = swap;
+            i = after;
+        }
+    }
+
+    /*
+     * 按优先级（深度优先，SPLIT 的优先目标在前）把不消耗字符能够到达的指令加入线程列表
+     */
+    private void addThread(ThreadList list, int startPc, int[] startCaptures, int position, CharSequence input,
+                           int length) {
+        int top = 0;
+        list.stackPcs[top] = startPc;
+        list.stackCaptures[top++] = startCaptures;
+        while (top > 0) {
+            top--;
+            final int pc = list.stackPcs[top];
+            int[] captures = list.stackCaptures[top];
+            list.stackCaptures[top] = null;
+            // PROGRESS 的结果只取决于哪些重复的本次迭代从当前位置开始，相同指令与相同情况的线程只保留优先级最高的
+            int state = pc;
+            if (captures != null) {
+                final int base = 2 * (groupCount + 1);
+                for (int loop = 0; loop < loopCount; loop++) {
+                    state = state << 1 | (captures[base + loop] == position ? 1 : 0);
+                }
+            }
+            if (list.contains(state)) {
+                continue;
+            }
+            list.mark(state);
+            switch (opcodes[pc]) {
+                case CHAR_CLASS:
+                case MATCH:
+                    list.add(pc, captures);
+                    break;
+                case JUMP:
+                    list.stackPcs[top] = arguments[pc];
+                    list.stackCaptures[top++] = captures;
+                    break;
+                case SPLIT:
+                    list.stackPcs[top] = alternatives[pc];
+                    list.stackCaptures[top++] = captures;
+                    list.stackPcs[top] = arguments[pc];
+                    list.stackCaptures[top++] = captures;
+                    break;
+                case SAVE:
+                case MARK:
+                    if (captures != null) {
+                        captures = captures.clone();
+                        captures[arguments[pc]] = position;
+                    }
+                    list.stackPcs[top] = pc + 1;
+                    list.stackCaptures[top++] = captures;
+                    break;
+                case PROGRESS:
+                    if (captures == null) {
+                        list.stackPcs[top] = alternatives[pc];
+                        list.stackCaptures[top++] = null;
+                        list.stackPcs[top] = pc + 1;
+                        list.stackCaptures[top++] = null;
+                    } else {
+                        list.stackPcs[top] = captures[arguments[pc]] == position ? alternatives[pc] : pc + 1;
+                        list.stackCaptures[top++] = captures;
+                    }
+                    break;
+                case BEGIN:
+                    if (position == 0) {
+                        list.stackPcs[top] = pc + 1;
+                        list.stackCaptures[top++] = captures;
+                    }
+                    break;
+                case END:
+                    if (isEnd(input, position, length)) {
+                        list.stackPcs[top] = pc + 1;
+                        list.stackCaptures[top++] = captures;
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown opcode: " + opcodes[pc]);
+            }
+        }
+    }
+
+    /*
+     * 与 java.util.regex 中非多行模式的 $ 相同：输入的结尾，或者结尾的行终止符（\n、\r\n、\r、\u0085、\u2028、\u2029）之前
+     */
+    private static boolean isEnd(CharSequence input, int position, int length) {
+        if (position == length) {
+            return true;
+        }
+        if (position == length - 2) {
+            return input.charAt(position) == '\r' && input.charAt(position + 1) == '\n';
+        }
+        if (position == length - 1) {
+            final char c = input.charAt(position);
+            if (c == '\n') {
+                return position == 0 || input.charAt(position - 1) != '\r';
+            }
+            return c == '\r' || c == '\u0085' || (c | 1) == '\u2029';
+        }
+        return false;
+    }
+
+    /**
+     * Pike VM 的线程列表：按优先级排列的指令及其捕获组，以及用于去重的标记。
+     * 记录捕获组时，同一条指令按可以匹配空串的重复的迭代起点是否为当前位置区分为多个状态
+     */
+    private static final class ThreadList {
+        final int[] pcs;
+        final int[][] captures;
+        final int[] stackPcs;
+        final int[][] stackCaptures;
+        // 指令在本轮被加入时的轮次，避免每轮清空标记
+        private final int[] marks;
+        private int generation = 1;
+        int count;
+
+        ThreadList(int size, int loops) {
+            final int states = size << loops;
+            pcs = new int[states];
+            captures = new int[states][];
+            stackPcs = new int[2 * states + 1];
+            stackCaptures = new int[2 * states + 1][];
+            marks = new int[states];
+        }
+
+        boolean contains(int state) {
+            return marks[state] == generation;
+        }
+
+        void mark(int state) {
+            marks[state] = generation;
+        }
+
+        void add(int pc, int[] threadCaptures) {
+            pcs[count] = pc;
+            captures[count++] = threadCaptures;
+        }
+
+        void clear() {
+            Arrays.fill(captures, 0, count, null);
+            count = 0;
+            generation++;
+        }
+    }
+
+    /**
+     * DFA 状态：一组 NFA 指令，以及按码点等价类缓存的转移
+     */
+    private static final class State {
+        final int[] pcs;
+        final boolean accepting;
+        final boolean dead;
+        final boolean cached;
+        final State[] next;
+
+        State(int[] pcs, boolean accepting, int classes, boolean cached) {
+            this.pcs = pcs;
+            this.accepting = accepting;
+            this.dead = pcs.length == 0;
+            this.cached = cached;
+            this.next = new State[classes];
+        }
+    }
+
+    /**
+     * 以指令集合作为 DFA 缓存的键
+     */
+    private static final class StateKey {
+        private final int[] pcs;
+        private final int hash;
+
+        StateKey(int[] pcs) {
+            this.pcs = pcs;
+            this.hash = Arrays.hashCode(pcs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StateKey && Arrays.equals(pcs, ((StateKey) o).pcs);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 23:35.
+ */
+package com.alianga.valid.validator;
+
+/**
+ * <p>主机与端口的解析结果</p>
+ * 由 {@link EndpointValidator#parse(CharSequence, ParsedEndpoint)} 填充，主机以其在输入中的位置保存，不创建子串。
+ * <p>
+ * 实例是可变的，可以在同一个线程中重复使用以避免创建对象，但不能在多个线程之间共享。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 23:35
+ */
+public final class ParsedEndpoint {
+
+    private EndpointValidator.HostType hostType;
+
+    private int hostStart = -1;
+
+    private int hostEnd = -1;
+
+    private int port = -1;
+
+    void set(EndpointValidator.HostType hostType, int hostStart, int hostEnd, int port) {
+        this.hostType = hostType;
+        this.hostStart = hostStart;
+        this.hostEnd = hostEnd;
+        this.port = port;
+    }
+
+    /**
+     * @return 主机的类型，尚未成功解析时返回 null
+     */
+    public EndpointValidator.HostType getHostType() {
+        return hostType;
+    }
+
+    /**
+     * @return 主机在输入中的起始位置（包含）；IPv6 地址不包括方括号
+     */
+    public int getHostStart() {
+        return hostStart;
+    }
+
+    /**
+     * @return 主机在输入中的结束位置（不包含）；IPv6 地址不包括方括号
+     */
+    public int getHostEnd() {
+        return hostEnd;
+    }
+
+    /**
+     * @return 如果带有端口则返回 true
+     */
+    public boolean hasPort() {
+        return port >= 0;
+    }
+
+    /**
+     * @return 端口，没有端口时返回 -1
+     */
+    public int getPort() {
+        return port;
+    }
+
+    @Override
+    public String toString() {
+        return "ParsedEndpoint{hostType=" + hostType + ", host=[" + hostStart + ", " + hostEnd + "), port=" + port + "}";
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 22:05.
+ */
+package com.alianga.valid.validator;
+
+/**
+ * <p>IPv6 地址的解析结果</p>
+ * 由 {@link InetAddressValidator#parseInet6Address(CharSequence, ParsedInet6Address)} 填充，
+ * 128 位的地址以两个 long 保存，区域标识（zone id）以其在输入中的位置保存。
+ * <p>
+ * 实例是可变的，可以在同一个线程中重复使用以避免创建对象，但不能在多个线程之间共享。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 22:05
+ */
+public final class ParsedInet6Address {
+
+    private long high;
+
+    private long low;
+
+    private int prefixLength = -1;
+
+    private int zoneStart = -1;
+
+    private int zoneEnd = -1;
+
+    void set(long high, long low, int prefixLength, int zoneStart, int zoneEnd) {
+        this.high = high;
+        this.low = low;
+        this.prefixLength = prefixLength;
+        this.zoneStart = zoneStart;
+        this.zoneEnd = zoneEnd;
+    }
+
+    /**
+     * @return 地址的高 64 位，即前 4 组
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * @return 地址的低 64 位，即后 4 组
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * @param index 组的下标，0 到 7
+     * @return 第 index 组的 16 位值
+     * @throws IndexOutOfBoundsException 如果 index 不在 0 到 7 之间
+     */
+    public int getGroup(int index) {
+        if (index < 0 || index > 7) {
+            throw new IndexOutOfBoundsException("Group index: " + index);
+        }
+        final long half = index < 4 ? high : low;
+        return (int) (half >>> ((3 - (index & 3)) << 4)) & 0xFFFF;
+    }
+
+    /**
+     * @return 前缀长度（/ 之后的数字），没有前缀时返回 -1
+     */
+    public int getPrefixLength() {
+        return prefixLength;
+    }
+
+    /**
+     * @return 如果地址带有区域标识（% 之后的部分）则返回 true
+     */
+    public boolean hasZone() {
+        return zoneStart >= 0;
+    }
+
+    /**
+     * @return 区域标识在输入中的起始位置（包含），没有区域标识时返回 -1
+     */
+    public int getZoneStart() {
+        return zoneStart;
+    }
+
+    /**
+     * @return 区域标识在输入中的结束位置（不包含），没有区域标识时返回 -1
+     */
+    public int getZoneEnd() {
+        return zoneEnd;
+    }
+
+    /**
+     * @return RFC 5952 规范形式的地址，带有前缀长度时一并输出；区域标识只保存了位置，不包含在内
+     * @see InetAddressValidator#appendInet6Address(long, long, StringBuilder)
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(48);
+        InetAddressValidator.appendInet6Address(high, low, sb);
+        if (prefixLength >= 0) {
+            sb.append('/').append(prefixLength);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,397 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 18:30.
+ */
+package com.alianga.valid.validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Serializable;
+import java.net.IDN;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>公共后缀列表（Public Suffix List）</p>
+ * 从本地的 <a href="https://publicsuffix.org/list/">public_suffix_list.dat</a> 文件加载规则，
+ * 编译为按标签倒序组织的前缀树（支持通配符规则和例外规则），一次从右向左的遍历即可得到域名的公共后缀与可注册域名。
+ * 例如 {@code foo.co.uk} 的公共后缀为 {@code co.uk}，可注册域名为 {@code foo.co.uk}，而 {@code co.uk} 本身不是可注册域名。
+ * <p>
+ * 实例创建后不可变，可以在多个线程之间安全共享。查找时除返回的 {@link Match} 外不创建任何对象（非 ASCII 的域名会先转换为 punycode）。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 18:30
+ */
+public final class PublicSuffixList implements Serializable {
+
+    private static final long serialVersionUID = -3215078529302614557L;
+
+    private static final String WILDCARD = "*";
+
+    private static final String EXCEPTION_PREFIX = "!";
+
+    private static final String COMMENT_PREFIX = "//";
+
+    private static final String BEGIN_PRIVATE_DOMAINS = "===BEGIN PRIVATE DOMAINS===";
+
+    private final Node root;
+
+    private final int ruleCount;
+
+    private PublicSuffixList(Node root, int ruleCount) {
+        this.root = root;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * 从本地文件加载公共后缀列表，包括 ICANN 和私有两部分的规则
+     *
+     * @param file public_suffix_list.dat 格式的文件
+     * @return 公共后缀列表
+     * @throws IOException              读取文件失败
+     * @throws IllegalArgumentException 列表中包含不支持的规则
+     */
+    public static PublicSuffixList load(Path file) throws IOException {
+        return load(file, true);
+    }
+
+    /**
+     * 从本地文件加载公共后缀列表
+     *
+     * @param file           public_suffix_list.dat 格式的文件
+     * @param includePrivate 是否包括私有部分（===BEGIN PRIVATE DOMAINS=== 之后）的规则
+     * @return 公共后缀列表
+     * @throws IOException              读取文件失败
+     * @throws IllegalArgumentException 列表中包含不支持的规则
+     */
+    public static PublicSuffixList load(Path file, boolean includePrivate) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return load(in, includePrivate);
+        }
+    }
+
+    /**
+     * 从输入流加载公共后缀列表，输入流由调用者负责关闭
+     *
+     * @param in             UTF-8 编码的 public_suffix_list.dat 格式的内容
+     * @param includePrivate 是否包括私有部分（===BEGIN PRIVATE DOMAINS=== 之后）的规则
+     * @return 公共后缀列表
+     * @throws IOException              读取失败
+     * @throws IllegalArgumentException 列表中包含不支持的规则
+     */
+    public static PublicSuffixList load(InputStream in, boolean includePrivate) throws IOException {
+        final Builder root = new Builder();
+        int ruleCount = 0;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.startsWith(COMMENT_PREFIX)) {
+                if (!includePrivate && line.contains(BEGIN_PRIVATE_DOMAINS)) {
+                    break;
+                }
+                continue;
+            }
+            if (line.isEmpty()) {
+                continue;
+            }
+            // 规则只取到第一个空白字符为止
+            int blank = 0;
+            while (blank < line.length() && !Character.isWhitespace(line.charAt(blank))) {
+                blank++;
+            }
+            root.add(line.substring(0, blank), lineNumber);
+            ruleCount++;
+        }
+        return new PublicSuffixList(root.compile(), ruleCount);
+    }
+
+    /**
+     * @return 规则的数量
+     */
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * 查找域名的公共后缀与可注册域名。域名末尾的一个点会被忽略，没有规则匹配时使用默认规则 "*"。
+     *
+     * @param domain 需要查找的域名
+     * @return 查找结果；域名为 null、空或包含空标签时返回 null
+     */
+    public Match lookup(CharSequence domain) {
+        if (domain == null) {
+            return null;
+        }
+        CharSequence name = domain;
+        for (int i = 0; i < domain.length(); i++) {
+            if (domain.charAt(i) > 0x7F) { // CHECKSTYLE IGNORE MagicNumber
+                name = DomainValidator.unicodeToASCII(domain.toString());
+                break;
+            }
+        }
+        int end = name.length();
+        if (end > 0 && name.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (end == 0 || name.charAt(0) == '.') {
+            return null;
+        }
+        for (int i = 1; i < end; i++) {
+            if (name.charAt(i) == '.' && name.charAt(i - 1) == '.') {
+                return null;
+            }
+        }
+
+        Node node = root;
+        int suffixStart = -1;
+        int labelEnd = end;
+        while (node != null && labelEnd > 0) {
+            final int labelStart = lastDot(name, labelEnd) + 1;
+            if (suffixStart < 0) {
+                suffixStart = labelStart; // 默认规则 "*"
+            }
+            final Node child = node.child(name, labelStart, labelEnd);
+            if (child != null && child.exception) {
+                // 例外规则优先，公共后缀为规则去掉最左边的标签
+                suffixStart = labelEnd + 1;
+                break;
+            }
+            if (node.wildcard || (child != null && child.terminal)) {
+                suffixStart = labelStart;
+            }
+            node = child;
+            labelEnd = labelStart - 1;
+        }
+        final int registrableStart = suffixStart == 0 ? -1 : lastDot(name, suffixStart - 1) + 1;
+        return new Match(name, suffixStart, registrableStart, end);
+    }
+
+    /**
+     * 获取域名的公共后缀
+     *
+     * @param domain 需要查找的域名
+     * @return 公共后缀，域名不合法时返回 null
+     */
+    public String getPublicSuffix(CharSequence domain) {
+        final Match match = lookup(domain);
+        return match == null ? null : match.getPublicSuffix();
+    }
+
+    /**
+     * 获取域名的可注册域名，即公共后缀再加上左边的一个标签
+     *
+     * @param domain 需要查找的域名
+     * @return 可注册域名，域名本身是公共后缀或不合法时返回 null
+     */
+    public String getRegistrableDomain(CharSequence domain) {
+        final Match match = lookup(domain);
+        return match == null ? null : match.getRegistrableDomain();
+    }
+
+    /**
+     * @param domain 需要检查的域名
+     * @return 如果域名本身就是公共后缀则返回 true
+     */
+    public boolean isPublicSuffix(CharSequence domain) {
+        final Match match = lookup(domain);
+        return match != null && match.isPublicSuffix();
+    }
+
+    private static int lastDot(CharSequence name, int end) {
+        for (int i = end - 1; i >= 0; i--) {
+            if (name.charAt(i) == '.') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 查找结果，保存的是偏移量，只有在调用 getter 时才会创建字符串。
+     * 非 ASCII 的域名会先转换为 punycode，偏移量均相对于 {@link #getDomain()}。
+     */
+    public static final class Match {
+
+        private final CharSequence domain;
+
+        private final int publicSuffixStart;
+
+        private final int registrableStart;
+
+        private final int end;
+
+        Match(CharSequence domain, int publicSuffixStart, int registrableStart, int end) {
+            this.domain = domain;
+            this.publicSuffixStart = publicSuffixStart;
+            this.registrableStart = registrableStart;
+            this.end = end;
+        }
+
+        /**
+         * @return 查找所用的域名（ASCII 形式）
+         */
+        public CharSequence getDomain() {
+            return domain;
+        }
+
+        /**
+         * @return 公共后缀在域名中的起始位置
+         */
+        public int getPublicSuffixStart() {
+            return publicSuffixStart;
+        }
+
+        /**
+         * @return 可注册域名在域名中的起始位置，域名本身是公共后缀时返回 -1
+         */
+        public int getRegistrableDomainStart() {
+            return registrableStart;
+        }
+
+        /**
+         * @return 公共后缀与可注册域名的结束位置（不含末尾的点）
+         */
+        public int getEnd() {
+            return end;
+        }
+
+        /**
+         * @return 公共后缀，保留输入的大小写
+         */
+        public String getPublicSuffix() {
+            return domain.subSequence(publicSuffixStart, end).toString();
+        }
+
+        /**
+         * @return 可注册域名，保留输入的大小写；域名本身是公共后缀时返回 null
+         */
+        public String getRegistrableDomain() {
+            return registrableStart < 0 ? null : domain.subSequence(registrableStart, end).toString();
+        }
+
+        /**
+         * @return 如果域名本身就是公共后缀则返回 true
+         */
+        public boolean isPublicSuffix() {
+            return registrableStart < 0;
+        }
+
+        @Override
+        public String toString() {
+            return "Match{publicSuffix=" + getPublicSuffix() + ", registrableDomain=" + getRegistrableDomain() + "}";
+        }
+    }
+
+    /**
+     * 编译后的前缀树节点，子节点按标签排序以便二分查找
+     */
+    private static final class Node implements Serializable {
+
+        private static final long serialVersionUID = 5137452960123586044L;
+
+        final String[] labels;
+        final Node[] children;
+        // 存在以该节点结尾的普通规则
+        final boolean terminal;
+        // 存在 "*.该节点" 的通配符规则
+        final boolean wildcard;
+        // 存在以该节点结尾的例外规则
+        final boolean exception;
+
+        Node(String[] labels, Node[] children, boolean terminal, boolean wildcard, boolean exception) {
+            this.labels = labels;
+            this.children = children;
+            this.terminal = terminal;
+            this.wildcard = wildcard;
+            this.exception = exception;
+        }
+
+        Node child(CharSequence name, int start, int end) {
+            int low = 0;
+            int high = labels.length - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int cmp = DomainValidator.compareFolded(labels[mid], name, start, end);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 加载时使用的可变前缀树节点
+     */
+    private static final class Builder {
+        final Map<String, Builder> children = new TreeMap<String, Builder>();
+        boolean terminal;
+        boolean wildcard;
+        boolean exception;
+
+        void add(String rule, int lineNumber) {
+            boolean isException = rule.startsWith(EXCEPTION_PREFIX);
+            if (isException) {
+                rule = rule.substring(EXCEPTION_PREFIX.length());
+            }
+            final String[] labels = rule.split("\\.", -1);
+            Builder node = this;
+            for (int i = labels.length - 1; i >= 0; i--) {
+                final String label = labels[i];
+                if (label.isEmpty()) {
+                    throw new IllegalArgumentException("Invalid rule at line " + lineNumber + ": " + rule);
+                }
+                if (WILDCARD.equals(label)) {
+                    // 只支持最左边标签为通配符的规则，例如 *.ck
+                    if (i != 0 || isException) {
+                        throw new IllegalArgumentException("Unsupported wildcard rule at line " + lineNumber + ": " + rule);
+                    }
+                    node.wildcard = true;
+                    return;
+                }
+                final String key = toASCII(label).toLowerCase(Locale.ENGLISH);
+                Builder child = node.children.get(key);
+                if (child == null) {
+                    child = new Builder();
+                    node.children.put(key, child);
+                }
+                node = child;
+            }
+            if (isException) {
+                node.exception = true;
+            } else {
+                node.terminal = true;
+            }
+        }
+
+        Node compile() {
+            final String[] labels = children.keySet().toArray(new String[children.size()]);
+            final Node[] nodes = new Node[labels.length];
+            for (int i = 0; i < labels.length; i++) {
+                nodes[i] = children.get(labels[i]).compile();
+            }
+            return new Node(labels, nodes, terminal, wildcard, exception);
+        }
+
+        private static String toASCII(String label) {
+            try {
+                return IDN.toASCII(label);
+            } catch (IllegalArgumentException e) {
+                return label;
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Created by 郑明亮 on 2026/10/19 00:05.
+ */
+package com.alianga.valid.validator;
+
+import java.util.List;
+
+/**
+ * <p>正则表达式的语法树节点</p>
+ * 由 {@link RegexParser} 创建，节点的类型由 {@link #type} 区分，只使用与该类型相关的字段。
+ * 字符类在解析时已经展开为有序且互不相交的码点区间，不区分大小写的匹配也已经体现在区间中；
+ * 单个字符则保留为 {@link #LITERAL}，由使用者根据是否区分大小写进行比较。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/19 00:05
+ */
+final class RegexNode {
+
+    /**
+     * 单个码点
+     */
+    static final int LITERAL = 1;
+
+    /**
+     * 字符类，包括 . 与 \d 等预定义字符类
+     */
+    static final int CHAR_CLASS = 2;
+
+    /**
+     * 顺序连接，没有子节点时匹配空串
+     */
+    static final int CONCAT = 3;
+
+    /**
+     * 选择（|）
+     */
+    static final int ALTERNATE = 4;
+
+    /**
+     * 捕获组
+     */
+    static final int GROUP = 5;
+
+    /**
+     * 重复（*、+、?、{n,m}）
+     */
+    static final int REPEAT = 6;
+
+    /**
+     * 输入的开头（^）
+     */
+    static final int BEGIN = 7;
+
+    /**
+     * 输入的结尾，或者结尾的行终止符之前（$）
+     */
+    static final int END = 8;
+
+    /**
+     * {@link #max} 表示不限次数时的值
+     */
+    static final int UNBOUNDED = -1;
+
+    final int type;
+
+    /**
+     * LITERAL 的码点
+     */
+    final int codePoint;
+
+    /**
+     * CHAR_CLASS 的码点区间，依次为每个区间的起点与终点（包含）
+     */
+    final int[] ranges;
+
+    /**
+     * CONCAT、ALTERNATE 的子节点；GROUP、REPEAT 只有一个子节点
+     */
+    final RegexNode[] children;
+
+    /**
+     * GROUP 的组号，从 1 开始
+     */
+    final int group;
+
+    /**
+     * REPEAT 的最少次数
+     */
+    final int min;
+
+    /**
+     * REPEAT 的最多次数，不限时为 {@link #UNBOUNDED}
+     */
+    final int max;
+
+    /**
+     * REPEAT 是否为贪婪模式
+     */
+    final boolean greedy;
+
+    private RegexNode(int type, int codePoint, int[] ranges, RegexNode[] children, int group, int min, int max,
+                      boolean greedy) {
+        this.type = type;
+        this.codePoint = codePoint;
+        this.ranges = ranges;
+        this.children = children;
+        this.group = group;
+        this.min = min;
+        this.max = max;
+        this.greedy = greedy;
+    }
+
+    static RegexNode literal(int codePoint) {
+        return new RegexNode(LITERAL, codePoint, null, null, 0, 0, 0, false);
+    }
+
+    static RegexNode charClass(int[] ranges) {
+        return new RegexNode(CHAR_CLASS, 0, ranges, null, 0, 0, 0, false);
+    }
+
+    static RegexNode concat(List<RegexNode> children) {
+        return new RegexNode(CONCAT, 0, null, children.toArray(new RegexNode[0]), 0, 0, 0, false);
+    }
+
+    static RegexNode alternate(List<RegexNode> children) {
+        return new RegexNode(ALTERNATE, 0, null, children.toArray(new RegexNode[0]), 0, 0, 0, false);
+    }
+
+    static RegexNode group(int group, RegexNode child) {
+        return new RegexNode(GROUP, 0, null, new RegexNode[]{child}, group, 0, 0, false);
+    }
+
+    static RegexNode repeat(RegexNode child, int min, int max, boolean greedy) {
+        return new RegexNode(REPEAT, 0, null, new RegexNode[]{child}, 0, min, max, greedy);
+    }
+
+    static RegexNode begin() {
+        return new RegexNode(BEGIN, 0, null, null, 0, 0, 0, false);
+    }
+
+    static RegexNode end() {
+        return new RegexNode(END, 0, null, null, 0, 0, 0, false);
+    }
+}
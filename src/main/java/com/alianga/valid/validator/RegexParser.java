@@ -0,0 +1,595 @@
+/**
+ * Created by 郑明亮 on 2026/10/19 00:05.
+ */
+package com.alianga.valid.validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>正则表达式的语法分析</p>
+ * 将 {@link java.util.regex.Pattern} 语法的一个子集解析为 {@link RegexNode} 语法树，解释与 {@link java.util.regex.Pattern} 保持一致
+ * （只考虑 {@link java.util.regex.Pattern#CASE_INSENSITIVE} 标志，不区分大小写时只比较 ASCII 字母）。支持的语法：
+ * <ul>
+ * <li>字符与转义：\t \n \r \f \a \e \cX \0ooo \xhh \x{h...} \\uhhhh，以及转义的非字母字符；</li>
+ * <li>字符类：. \d \D \s \S \w \W，区分大小写时还支持 \p{Lower} 等 POSIX 字符类，
+ * 方括号字符类支持取反与范围，但不支持嵌套与交集；</li>
+ * <li>分组：(...)、(?:...)、(?&lt;name&gt;...)，选择 |，锚点 ^ 与 $；</li>
+ * <li>量词：* + ? {n} {n,} {n,m}，以及对应的非贪婪形式。</li>
+ * </ul>
+ * 其余语法（反向引用、环视、独占量词、内嵌标志、\b 等）抛出 {@link IllegalArgumentException}，消息说明不支持的原因。
+ * 调用者应先用 {@link java.util.regex.Pattern#compile(String, int)} 检查语法，本类只用于已经合法的正则表达式。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/19 00:05
+ */
+final class RegexParser {
+
+    /**
+     * . 不匹配的行终止符：\n \r \u0085 \u2028 \u2029
+     */
+    private static final int[] DOT = complement(new int[]{'\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029});
+
+    private static final int[] DIGIT = {'0', '9'};
+
+    private static final int[] SPACE = {'\t', '\r', ' ', ' '};
+
+    private static final int[] WORD = {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'};
+
+    private static final String[] POSIX_NAMES = {
+            "Lower", "Upper", "ASCII", "Alpha", "Digit", "Alnum", "Punct", "Graph", "Blank", "Cntrl", "XDigit", "Space"
+    };
+
+    private static final int[][] POSIX_RANGES = {
+            {'a', 'z'},
+            {'A', 'Z'},
+            {0, 0x7F},
+            {'A', 'Z', 'a', 'z'},
+            DIGIT,
+            {'0', '9', 'A', 'Z', 'a', 'z'},
+            {'!', '/', ':', '@', '[', '`', '{', '~'},
+            {'!', '~'},
+            {'\t', '\t', ' ', ' '},
+            {0, 0x1F, 0x7F, 0x7F},
+            {'0', '9', 'A', 'F', 'a', 'f'},
+            SPACE,
+    };
+
+    private final String regex;
+
+    private final boolean caseInsensitive;
+
+    private int position;
+
+    private int groupCount;
+
+    /**
+     * 最近一次 {@link #parseEscape()} 得到的预定义字符类
+     */
+    private int[] escapeClass;
+
+    /**
+     * @param regex           正则表达式
+     * @param caseInsensitive 是否不区分大小写
+     */
+    RegexParser(String regex, boolean caseInsensitive) {
+        this.regex = regex;
+        this.caseInsensitive = caseInsensitive;
+    }
+
+    /**
+     * @return 语法树的根节点
+     * @throws IllegalArgumentException 正则表达式使用了不支持的语法
+     */
+    RegexNode parse() {
+        final RegexNode root = parseAlternation();
+        if (position < regex.length()) {
+            throw unsupported("unmatched ')'");
+        }
+        return root;
+    }
+
+    /**
+     * @return 捕获组的数量，{@link #parse()} 之后有效
+     */
+    int getGroupCount() {
+        return groupCount;
+    }
+
+    private RegexNode parseAlternation() {
+        final List<RegexNode> alternatives = new ArrayList<RegexNode>();
+        alternatives.add(parseConcat());
+        while (position < regex.length() && regex.charAt(position) == '|') {
+            position++;
+            alternatives.add(parseConcat());
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : RegexNode.alternate(alternatives);
+    }
+
+    private RegexNode parseConcat() {
+        final List<RegexNode> items = new ArrayList<RegexNode>();
+        while (position < regex.length()) {
+            final char c = regex.charAt(position);
+            if (c == '|' || c == ')') {
+                break;
+            }
+            items.add(parseQuantifier(parseAtom()));
+        }
+        return items.size() == 1 ? items.get(0) : RegexNode.concat(items);
+    }
+
+    private RegexNode parseAtom() {
+        final char c = regex.charAt(position);
+        switch (c) {
+            case '(':
+                position++;
+                return parseGroup();
+            case '[':
+                position++;
+                return RegexNode.charClass(parseClass());
+            case '.':
+                position++;
+                return RegexNode.charClass(DOT);
+            case '^':
+                position++;
+                return RegexNode.begin();
+            case '$':
+                position++;
+                return RegexNode.end();
+            case '\\':
+                position++;
+                final int codePoint = parseEscape();
+                return codePoint >= 0 ? RegexNode.literal(codePoint) : RegexNode.charClass(escapeClass);
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+                throw unsupported("dangling quantifier");
+            default:
+                final int literal = regex.codePointAt(position);
+                position += Character.charCount(literal);
+                return RegexNode.literal(literal);
+        }
+    }
+
+    private RegexNode parseGroup() {
+        if (position < regex.length() && regex.charAt(position) == '?') {
+            if (regex.startsWith("?:", position)) {
+                position += 2;
+                final RegexNode inner = parseAlternation();
+                expectGroupEnd();
+                // (?:(x))* 与 (x)* 在 java.util.regex 中记录捕获组的方式不同，保留非捕获组这一层
+                return inner.type == RegexNode.GROUP ? RegexNode.concat(Collections.singletonList(inner)) : inner;
+            }
+            if (regex.startsWith("?<", position) && position + 2 < regex.length()
+                    && isAsciiLetter(regex.charAt(position + 2))) {
+                position += 2;
+                while (position < regex.length() && regex.charAt(position) != '>') {
+                    position++;
+                }
+                position++;
+            } else {
+                throw unsupported("group construct (" + regex.substring(position, Math.min(position + 2, regex.length())));
+            }
+        }
+        final int group = ++groupCount;
+        final RegexNode inner = parseAlternation();
+        expectGroupEnd();
+        return RegexNode.group(group, inner);
+    }
+
+    private void expectGroupEnd() {
+        if (position >= regex.length() || regex.charAt(position) != ')') {
+            throw unsupported("unclosed group");
+        }
+        position++;
+    }
+
+    private RegexNode parseQuantifier(RegexNode atom) {
+        if (position >= regex.length()) {
+            return atom;
+        }
+        final int min;
+        final int max;
+        switch (regex.charAt(position)) {
+            case '*':
+                min = 0;
+                max = RegexNode.UNBOUNDED;
+                position++;
+                break;
+            case '+':
+                min = 1;
+                max = RegexNode.UNBOUNDED;
+                position++;
+                break;
+            case '?':
+                min = 0;
+                max = 1;
+                position++;
+                break;
+            case '{':
+                position++;
+                min = parseCount();
+                if (position < regex.length() && regex.charAt(position) == ',') {
+                    position++;
+                    max = position < regex.length() && regex.charAt(position) == '}' ? RegexNode.UNBOUNDED : parseCount();
+                } else {
+                    max = min;
+                }
+                if (position >= regex.length() || regex.charAt(position) != '}'
+                        || (max != RegexNode.UNBOUNDED && max < min)) {
+                    throw unsupported("invalid counted repetition");
+                }
+                position++;
+                break;
+            default:
+                return atom;
+        }
+        boolean greedy = true;
+        if (position < regex.length()) {
+            final char c = regex.charAt(position);
+            if (c == '?') {
+                greedy = false;
+                position++;
+            } else if (c == '+') {
+                throw unsupported("possessive quantifier");
+            }
+        }
+        if (atom.type == RegexNode.BEGIN || atom.type == RegexNode.END) {
+            throw unsupported("quantified anchor");
+        }
+        return RegexNode.repeat(atom, min, max, greedy);
+    }
+
+    private int parseCount() {
+        final int start = position;
+        long count = 0;
+        while (position < regex.length() && regex.charAt(position) >= '0' && regex.charAt(position) <= '9') {
+            count = count * 10 + (regex.charAt(position) - '0');
+            if (count > Integer.MAX_VALUE) {
+                throw unsupported("repetition count too large");
+            }
+            position++;
+        }
+        if (position == start) {
+            throw unsupported("invalid counted repetition");
+        }
+        return (int) count;
+    }
+
+    /*
+     * 解析 [ 之后直到 ] 的字符类
+     */
+    private int[] parseClass() {
+        final boolean negate = position < regex.length() && regex.charAt(position) == '^';
+        if (negate) {
+            position++;
+        }
+        final RangeSet set = new RangeSet();
+        boolean first = true;
+        while (true) {
+            if (position >= regex.length()) {
+                throw unsupported("unclosed character class");
+            }
+            final char c = regex.charAt(position);
+            if (c == ']' && !first) {
+                position++;
+                break;
+            }
+            if (c == '[') {
+                throw unsupported("nested character class");
+            }
+            if (c == '&' && regex.startsWith("&&", position)) {
+                throw unsupported("character class intersection");
+            }
+            first = false;
+            final int low = parseClassChar();
+            if (low < 0) {
+                set.addAll(escapeClass);
+                if (isRangeDash()) {
+                    throw unsupported("range with a predefined character class");
+                }
+                continue;
+            }
+            if (isRangeDash()) {
+                position++;
+                if (regex.charAt(position) == '[') {
+                    throw unsupported("nested character class");
+                }
+                final int high = parseClassChar();
+                if (high < 0 || high < low) {
+                    throw unsupported("invalid character range");
+                }
+                set.add(low, high);
+                if (caseInsensitive) {
+                    for (int letter = 'A'; letter <= 'z'; letter++) {
+                        if (isAsciiLetter((char) letter) && (inRange(low, toAsciiUpper(letter), high)
+                                || inRange(low, toAsciiLower(letter), high))) {
+                            set.add(letter, letter);
+                        }
+                    }
+                }
+            } else {
+                set.add(low, low);
+                if (caseInsensitive && low < 0x80 && isAsciiLetter((char) low)) {
+                    set.add(toAsciiUpper(low), toAsciiUpper(low));
+                    set.add(toAsciiLower(low), toAsciiLower(low));
+                }
+            }
+        }
+        final int[] ranges = set.toRanges();
+        return negate ? complement(ranges) : ranges;
+    }
+
+    /*
+     * 当前位置是表示范围的 -，即 - 之后不是 ]
+     */
+    private boolean isRangeDash() {
+        return position + 1 < regex.length() && regex.charAt(position) == '-' && regex.charAt(position + 1) != ']';
+    }
+
+    /*
+     * 字符类中的一个字符，是预定义字符类时返回 -1，字符类保存在 escapeClass 中
+     */
+    private int parseClassChar() {
+        if (regex.charAt(position) == '\\') {
+            position++;
+            return parseEscape();
+        }
+        final int codePoint = regex.codePointAt(position);
+        position += Character.charCount(codePoint);
+        return codePoint;
+    }
+
+    /*
+     * 解析 \ 之后的转义，返回码点；是预定义字符类时返回 -1，字符类保存在 escapeClass 中
+     */
+    private int parseEscape() {
+        if (position >= regex.length()) {
+            throw unsupported("trailing backslash");
+        }
+        final char c = regex.charAt(position++);
+        switch (c) {
+            case 'd':
+                return escapeClass(DIGIT);
+            case 'D':
+                return escapeClass(complement(DIGIT));
+            case 's':
+                return escapeClass(SPACE);
+            case 'S':
+                return escapeClass(complement(SPACE));
+            case 'w':
+                return escapeClass(WORD);
+            case 'W':
+                return escapeClass(complement(WORD));
+            case 'p':
+            case 'P':
+                return escapeClass(parseProperty(c == 'P'));
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'a':
+                return 0x07;
+            case 'e':
+                return 0x1B;
+            case 'c':
+                if (position >= regex.length()) {
+                    throw unsupported("illegal control escape");
+                }
+                return regex.charAt(position++) ^ 64;
+            case '0':
+                return parseOctal();
+            case 'x':
+                return parseHex();
+            case 'u':
+                return parseUnicode();
+            default:
+                if (c >= '1' && c <= '9') {
+                    throw unsupported("back reference \\" + c);
+                }
+                if (isAsciiLetter(c)) {
+                    throw unsupported("escape \\" + c);
+                }
+                final int codePoint = regex.codePointAt(position - 1);
+                position += Character.charCount(codePoint) - 1;
+                return codePoint;
+        }
+    }
+
+    private int escapeClass(int[] ranges) {
+        escapeClass = ranges;
+        return -1;
+    }
+
+    private int[] parseProperty(boolean negate) {
+        if (caseInsensitive) {
+            throw unsupported("character property with CASE_INSENSITIVE");
+        }
+        final int close = regex.indexOf('}', position);
+        if (position >= regex.length() || regex.charAt(position) != '{' || close < 0) {
+            throw unsupported("character property");
+        }
+        final String name = regex.substring(position + 1, close);
+        position = close + 1;
+        for (int i = 0; i < POSIX_NAMES.length; i++) {
+            if (POSIX_NAMES[i].equals(name)) {
+                return negate ? complement(POSIX_RANGES[i]) : POSIX_RANGES[i];
+            }
+        }
+        throw unsupported("character property \\p{" + name + "}");
+    }
+
+    private int parseOctal() {
+        final int first = octalDigit(position);
+        if (first < 0) {
+            throw unsupported("illegal octal escape");
+        }
+        position++;
+        final int second = octalDigit(position);
+        if (second < 0) {
+            return first;
+        }
+        position++;
+        final int third = octalDigit(position);
+        if (third < 0 || first > 3) {
+            return first * 8 + second;
+        }
+        position++;
+        return first * 64 + second * 8 + third;
+    }
+
+    private int octalDigit(int index) {
+        if (index < regex.length()) {
+            final char c = regex.charAt(index);
+            if (c >= '0' && c <= '7') {
+                return c - '0';
+            }
+        }
+        return -1;
+    }
+
+    private int parseHex() {
+        if (position < regex.length() && regex.charAt(position) == '{') {
+            final int close = regex.indexOf('}', position);
+            if (close < 0 || close == position + 1) {
+                throw unsupported("illegal hexadecimal escape");
+            }
+            int codePoint = 0;
+            for (int i = position + 1; i < close; i++) {
+                final int digit = Character.digit(regex.charAt(i), 16);
+                if (digit < 0 || regex.charAt(i) > 0x7F) {
+                    throw unsupported("illegal hexadecimal escape");
+                }
+                codePoint = (codePoint << 4) | digit;
+                if (codePoint > Character.MAX_CODE_POINT) {
+                    throw unsupported("illegal hexadecimal escape");
+                }
+            }
+            position = close + 1;
+            return codePoint;
+        }
+        return parseHexDigits(2);
+    }
+
+    private int parseUnicode() {
+        final int value = parseHexDigits(4);
+        if (Character.isHighSurrogate((char) value) && regex.startsWith("\\u", position)) {
+            final int mark = position;
+            position += 2;
+            final int low = parseHexDigits(4);
+            if (Character.isLowSurrogate((char) low)) {
+                return Character.toCodePoint((char) value, (char) low);
+            }
+            position = mark;
+        }
+        return value;
+    }
+
+    private int parseHexDigits(int count) {
+        if (position + count > regex.length()) {
+            throw unsupported("illegal hexadecimal escape");
+        }
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            final char c = regex.charAt(position++);
+            final int digit = Character.digit(c, 16);
+            if (digit < 0 || c > 0x7F) {
+                throw unsupported("illegal hexadecimal escape");
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private IllegalArgumentException unsupported(String reason) {
+        return new IllegalArgumentException("Unsupported regex syntax: " + reason + " at index " + position);
+    }
+
+    /**
+     * 按 ASCII 规则转换为小写，与 {@link java.util.regex.Pattern#CASE_INSENSITIVE} 的比较方式一致
+     */
+    static int toAsciiLower(int c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    private static int toAsciiUpper(int c) {
+        return c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean inRange(int low, int c, int high) {
+        return low <= c && c <= high;
+    }
+
+    /**
+     * 有序且互不相交的码点区间在 [0, {@link Character#MAX_CODE_POINT}] 中的补集
+     */
+    static int[] complement(int[] ranges) {
+        final RangeSet set = new RangeSet();
+        int next = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next) {
+                set.add(next, ranges[i] - 1);
+            }
+            next = ranges[i + 1] + 1;
+        }
+        if (next <= Character.MAX_CODE_POINT) {
+            set.add(next, Character.MAX_CODE_POINT);
+        }
+        return set.toRanges();
+    }
+
+    /**
+     * 码点区间的集合，输出时排序并合并相交或相邻的区间
+     */
+    private static final class RangeSet {
+        private int[] ranges = new int[16];
+        private int size;
+
+        void add(int low, int high) {
+            if (size == ranges.length) {
+                ranges = Arrays.copyOf(ranges, size * 2);
+            }
+            ranges[size++] = low;
+            ranges[size++] = high;
+        }
+
+        void addAll(int[] other) {
+            for (int i = 0; i < other.length; i += 2) {
+                add(other[i], other[i + 1]);
+            }
+        }
+
+        int[] toRanges() {
+            final long[] sorted = new long[size / 2];
+            for (int i = 0; i < sorted.length; i++) {
+                sorted[i] = ((long) ranges[2 * i] << 32) | ranges[2 * i + 1];
+            }
+            Arrays.sort(sorted);
+            final int[] merged = new int[size];
+            int count = 0;
+            for (long range : sorted) {
+                final int low = (int) (range >>> 32);
+                final int high = (int) range;
+                if (count > 0 && low <= merged[count - 1] + 1) {
+                    merged[count - 1] = Math.max(merged[count - 1], high);
+                } else {
+                    merged[count++] = low;
+                    merged[count++] = high;
+                }
+            }
+            return Arrays.copyOf(merged, count);
+        }
+    }
+}
@@ -0,0 +1,526 @@
+/**
+ * Created by 郑明亮 on 2026/10/19 00:05.
+ */
+package com.alianga.valid.validator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * <p>多个正则表达式的预筛选</p>
+ * 构造时分析每个正则表达式，得到任何匹配都必须满足的条件：
+ * <ul>
+ * <li>必须以之开头的字面前缀；</li>
+ * <li>必须包含的字面子串；</li>
+ * <li>匹配的最小与最大长度（以 char 计）。</li>
+ * </ul>
+ * 校验时先按输入的第一个字符从索引中取出候选的正则表达式，再检查长度与前缀，
+ * 需要时用 Aho-Corasick 自动机扫描一次输入，找出其中出现的所有字面子串，只有满足全部条件的正则表达式才需要执行。
+ * 分析是保守的：无法识别的语法只会使条件变宽松，不会把能够匹配的输入排除在外。
+ * <p>
+ * 实例不可变，可以在多个线程之间安全共享。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/19 00:05
+ */
+final class RegexPrefilter {
+
+    /**
+     * 每个正则表达式最多使用的字面子串数量
+     */
+    private static final int MAX_LITERALS_PER_PATTERN = 4;
+
+    /**
+     * 所有正则表达式共用的字面子串数量上限，即 {@link #scanLiterals(CharSequence)} 返回的位掩码的位数
+     */
+    private static final int MAX_LITERALS = 64;
+
+    /**
+     * 分析时前缀与字面子串的最大长度
+     */
+    private static final int MAX_LITERAL_LENGTH = 64;
+
+    private final boolean caseInsensitive;
+
+    private final String[] prefixes;
+
+    private final int[] minLengths;
+
+    private final int[] maxLengths;
+
+    /**
+     * 每个正则表达式要求出现的字面子串的位掩码
+     */
+    private final long[] literalMasks;
+
+    /**
+     * 没有字面前缀的正则表达式，每 64 个一组
+     */
+    private final long[] anyFirst;
+
+    /**
+     * 以 ASCII 字符开头的正则表达式，下标为第一个字符（不区分大小写时为小写字母）
+     */
+    private final long[][] asciiFirst;
+
+    /**
+     * 以非 ASCII 字符开头的正则表达式，按第一个字符排序
+     */
+    private final char[] otherFirstChars;
+
+    private final long[][] otherFirst;
+
+    private final AhoCorasick literals;
+
+    /**
+     * @param patterns        需要预筛选的正则表达式
+     * @param caseInsensitive 是否不区分大小写
+     */
+    RegexPrefilter(Pattern[] patterns, boolean caseInsensitive) {
+        this.caseInsensitive = caseInsensitive;
+        final int count = patterns.length;
+        final int words = (count + 63) >>> 6;
+        prefixes = new String[count];
+        minLengths = new int[count];
+        maxLengths = new int[count];
+        literalMasks = new long[count];
+        anyFirst = new long[words];
+        asciiFirst = new long[128][];
+        final Map<Character, long[]> others = new LinkedHashMap<Character, long[]>();
+        final Map<String, Integer> literalIds = new LinkedHashMap<String, Integer>();
+        for (int i = 0; i < count; i++) {
+            Info info;
+            try {
+                info = analyze(new RegexParser(patterns[i].pattern(), caseInsensitive).parse());
+            } catch (IllegalArgumentException e) {
+                info = Info.unknown();
+            }
+            prefixes[i] = info.prefix;
+            minLengths[i] = clamp(info.minLength);
+            maxLengths[i] = clamp(info.maxLength);
+            final long bit = 1L << (i & 63);
+            if (info.prefix.isEmpty()) {
+                anyFirst[i >>> 6] |= bit;
+            } else {
+                final char first = info.prefix.charAt(0);
+                long[] index;
+                if (first < 128) {
+                    index = asciiFirst[first];
+                    if (index == null) {
+                        index = asciiFirst[first] = new long[words];
+                    }
+                } else {
+                    index = others.get(first);
+                    if (index == null) {
+                        index = new long[words];
+                        others.put(first, index);
+                    }
+                }
+                index[i >>> 6] |= bit;
+            }
+            for (String literal : selectLiterals(info)) {
+                Integer id = literalIds.get(literal);
+                if (id == null) {
+                    if (literalIds.size() == MAX_LITERALS) {
+                        continue;
+                    }
+                    id = literalIds.size();
+                    literalIds.put(literal, id);
+                }
+                literalMasks[i] |= 1L << id;
+            }
+        }
+        if (caseInsensitive) {
+            for (char c = 'a'; c <= 'z'; c++) {
+                asciiFirst[c - ('a' - 'A')] = asciiFirst[c];
+            }
+        }
+        otherFirstChars = new char[others.size()];
+        otherFirst = new long[others.size()][];
+        final List<Character> sorted = new ArrayList<Character>(others.keySet());
+        Collections.sort(sorted);
+        for (int i = 0; i < sorted.size(); i++) {
+            otherFirstChars[i] = sorted.get(i);
+            otherFirst[i] = others.get(sorted.get(i));
+        }
+        literals = literalIds.isEmpty() ? null
+                : new AhoCorasick(literalIds.keySet().toArray(new String[0]), caseInsensitive);
+    }
+
+    /**
+     * @return 正则表达式按 64 个一组的组数
+     */
+    int wordCount() {
+        return anyFirst.length;
+    }
+
+    /**
+     * 按输入的第一个字符取出候选的正则表达式
+     *
+     * @param value 需要校验的值
+     * @param word  组的下标
+     * @return 第 word 组的候选，第 i 位对应第 {@code word * 64 + i} 个正则表达式
+     */
+    long candidates(CharSequence value, int word) {
+        if (value.length() == 0) {
+            return anyFirst[word];
+        }
+        final char first = value.charAt(0);
+        long[] index = null;
+        if (first < 128) {
+            index = asciiFirst[first];
+        } else {
+            final int found = Arrays.binarySearch(otherFirstChars, first);
+            if (found >= 0) {
+                index = otherFirst[found];
+            }
+        }
+        return index == null ? anyFirst[word] : anyFirst[word] | index[word];
+    }
+
+    /**
+     * 检查长度与前缀，前缀的第一个字符已经由 {@link #candidates(CharSequence, int)} 检查过
+     *
+     * @return 输入的长度与前缀是否满足第 index 个正则表达式的要求
+     */
+    boolean accepts(int index, CharSequence value) {
+        final int length = value.length();
+        if (length < minLengths[index] || length > maxLengths[index]) {
+            return false;
+        }
+        final String prefix = prefixes[index];
+        if (prefix.length() > length) {
+            return false;
+        }
+        for (int i = 1; i < prefix.length(); i++) {
+            final char c = value.charAt(i);
+            if ((caseInsensitive ? (char) RegexParser.toAsciiLower(c) : c) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return 第 index 个正则表达式是否要求输入包含字面子串
+     */
+    boolean requiresLiterals(int index) {
+        return literalMasks[index] != 0;
+    }
+
+    /**
+     * @param value 需要校验的值
+     * @return 输入中出现的字面子串的位掩码
+     */
+    long scanLiterals(CharSequence value) {
+        return literals == null ? 0L : literals.scan(value);
+    }
+
+    /**
+     * @param found {@link #scanLiterals(CharSequence)} 的结果
+     * @return 输入是否包含第 index 个正则表达式要求的全部字面子串
+     */
+    boolean hasLiterals(int index, long found) {
+        return (literalMasks[index] & ~found) == 0;
+    }
+
+    private static int clamp(long length) {
+        return (int) Math.min(length, Integer.MAX_VALUE);
+    }
+
+    /*
+     * 去掉空串与前缀已经包含的子串，优先使用较长的子串
+     */
+    private static List<String> selectLiterals(Info info) {
+        final List<String> selected = new ArrayList<String>();
+        for (String literal : info.literals) {
+            if (!literal.isEmpty() && !info.prefix.contains(literal) && !selected.contains(literal)) {
+                selected.add(literal);
+            }
+        }
+        Collections.sort(selected, new Comparator<String>() {
+            @Override
+            public int compare(String a, String b) {
+                return b.length() - a.length();
+            }
+        });
+        return selected.size() > MAX_LITERALS_PER_PATTERN ? selected.subList(0, MAX_LITERALS_PER_PATTERN) : selected;
+    }
+
+    private Info analyze(RegexNode node) {
+        switch (node.type) {
+            case RegexNode.LITERAL:
+                return Info.exact(new StringBuilder().appendCodePoint(
+                        caseInsensitive ? RegexParser.toAsciiLower(node.codePoint) : node.codePoint).toString());
+            case RegexNode.CHAR_CLASS:
+                return analyzeClass(node.ranges);
+            case RegexNode.BEGIN:
+            case RegexNode.END:
+                return Info.exact("");
+            case RegexNode.GROUP:
+                return analyze(node.children[0]);
+            case RegexNode.CONCAT:
+                return analyzeConcat(node.children);
+            case RegexNode.ALTERNATE:
+                return analyzeAlternate(node.children);
+            case RegexNode.REPEAT:
+                return analyzeRepeat(node);
+            default:
+                return Info.unknown();
+        }
+    }
+
+    private static Info analyzeClass(int[] ranges) {
+        if (ranges.length == 2 && ranges[0] == ranges[1]) {
+            return Info.exact(new StringBuilder().appendCodePoint(ranges[0]).toString());
+        }
+        final boolean bmp = ranges.length > 0 && ranges[0] < Character.MIN_SUPPLEMENTARY_CODE_POINT;
+        final boolean supplementary = ranges.length > 0 && ranges[ranges.length - 1] >= Character.MIN_SUPPLEMENTARY_CODE_POINT;
+        return new Info(bmp ? 1 : 2, supplementary ? 2 : 1, "", false, Collections.<String>emptyList());
+    }
+
+    private Info analyzeConcat(RegexNode[] children) {
+        long min = 0;
+        long max = 0;
+        final StringBuilder prefix = new StringBuilder();
+        boolean exact = true;
+        final List<String> required = new ArrayList<String>();
+        final StringBuilder run = new StringBuilder();
+        for (RegexNode child : children) {
+            final Info info = analyze(child);
+            min = saturatedAdd(min, info.minLength);
+            max = saturatedAdd(max, info.maxLength);
+            if (exact) {
+                appendBounded(prefix, info.prefix);
+                exact = info.exact;
+            }
+            if (info.exact) {
+                appendBounded(run, info.prefix);
+            } else {
+                appendBounded(run, info.prefix);
+                required.add(run.toString());
+                run.setLength(0);
+                required.addAll(info.literals);
+            }
+        }
+        required.add(run.toString());
+        return new Info(min, max, prefix.toString(), exact && prefix.length() < MAX_LITERAL_LENGTH, required);
+    }
+
+    private Info analyzeAlternate(RegexNode[] children) {
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        String prefix = null;
+        boolean exact = true;
+        for (RegexNode child : children) {
+            final Info info = analyze(child);
+            min = Math.min(min, info.minLength);
+            max = Math.max(max, info.maxLength);
+            if (prefix == null) {
+                prefix = info.prefix;
+            } else {
+                exact &= prefix.equals(info.prefix);
+                int common = 0;
+                while (common < prefix.length() && common < info.prefix.length()
+                        && prefix.charAt(common) == info.prefix.charAt(common)) {
+                    common++;
+                }
+                prefix = prefix.substring(0, common);
+            }
+            exact &= info.exact;
+        }
+        return new Info(min, max, prefix, exact, Collections.<String>emptyList());
+    }
+
+    private Info analyzeRepeat(RegexNode node) {
+        final Info child = analyze(node.children[0]);
+        final long min = saturatedMultiply(child.minLength, node.min);
+        final long max = node.max == RegexNode.UNBOUNDED
+                ? (child.maxLength == 0 ? 0 : Long.MAX_VALUE)
+                : saturatedMultiply(child.maxLength, node.max);
+        if (node.max == 0 || node.min == 0) {
+            return new Info(min, max, "", node.max == 0, Collections.<String>emptyList());
+        }
+        if (!child.exact) {
+            final List<String> required = new ArrayList<String>(child.literals);
+            required.add(child.prefix);
+            return new Info(min, max, child.prefix, false, required);
+        }
+        final StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < node.min && prefix.length() < MAX_LITERAL_LENGTH; i++) {
+            appendBounded(prefix, child.prefix);
+        }
+        final boolean exact = node.min == node.max && prefix.length() < MAX_LITERAL_LENGTH;
+        return new Info(min, max, prefix.toString(), exact, Collections.singletonList(prefix.toString()));
+    }
+
+    private static void appendBounded(StringBuilder sb, String s) {
+        sb.append(s, 0, Math.min(s.length(), Math.max(0, MAX_LITERAL_LENGTH - sb.length())));
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        final long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedMultiply(long a, int b) {
+        if (a == 0 || b == 0) {
+            return 0;
+        }
+        return a > Long.MAX_VALUE / b ? Long.MAX_VALUE : a * b;
+    }
+
+    /**
+     * 一个语法树节点的分析结果：节点的任何匹配都以 prefix 开头，并包含 literals 中的每个子串；
+     * exact 为 true 时节点只能匹配 prefix 本身（不区分大小写时为小写形式）
+     */
+    private static final class Info {
+        final long minLength;
+        final long maxLength;
+        final String prefix;
+        final boolean exact;
+        final List<String> literals;
+
+        Info(long minLength, long maxLength, String prefix, boolean exact, List<String> literals) {
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.prefix = prefix;
+            this.exact = exact;
+            this.literals = literals;
+        }
+
+        static Info exact(String s) {
+            return new Info(s.length(), s.length(), s, true, Collections.<String>emptyList());
+        }
+
+        static Info unknown() {
+            return new Info(0, Long.MAX_VALUE, "", false, Collections.<String>emptyList());
+        }
+    }
+
+    /**
+     * 多个字面子串的 Aho-Corasick 自动机，构造时补全所有失败转移，扫描时每个字符只查一次转移表
+     */
+    private static final class AhoCorasick {
+
+        private final boolean caseInsensitive;
+
+        /**
+         * ASCII 字符对应的列，0 表示不在任何子串中出现
+         */
+        private final int[] asciiColumns = new int[128];
+
+        /**
+         * 子串中出现的非 ASCII 字符，已排序，第 i 个字符对应第 asciiCount + 1 + i 列
+         */
+        private final char[] otherChars;
+
+        private final int otherBase;
+
+        private final int width;
+
+        private final int[] transitions;
+
+        private final long[] outputs;
+
+        AhoCorasick(String[] literals, boolean caseInsensitive) {
+            this.caseInsensitive = caseInsensitive;
+            final boolean[] ascii = new boolean[128];
+            final StringBuilder other = new StringBuilder();
+            int states = 1;
+            for (String literal : literals) {
+                states += literal.length();
+                for (int i = 0; i < literal.length(); i++) {
+                    final char c = literal.charAt(i);
+                    if (c < 128) {
+                        ascii[c] = true;
+                    } else if (other.indexOf(String.valueOf(c)) < 0) {
+                        other.append(c);
+                    }
+                }
+            }
+            int column = 1;
+            for (int c = 0; c < 128; c++) {
+                if (ascii[c]) {
+                    asciiColumns[c] = column++;
+                }
+            }
+            otherChars = other.toString().toCharArray();
+            Arrays.sort(otherChars);
+            otherBase = column;
+            width = column + otherChars.length;
+
+            // 先构造字典树，-1 表示没有边
+            final int[] trie = new int[states * width];
+            Arrays.fill(trie, -1);
+            final long[] output = new long[states];
+            int count = 1;
+            for (int id = 0; id < literals.length; id++) {
+                int state = 0;
+                for (int i = 0; i < literals[id].length(); i++) {
+                    final int slot = state * width + column(literals[id].charAt(i));
+                    if (trie[slot] < 0) {
+                        trie[slot] = count++;
+                    }
+                    state = trie[slot];
+                }
+                output[state] |= 1L << id;
+            }
+            // 按广度优先顺序计算失败转移，并把缺失的边替换为失败状态的边
+            final int[] fail = new int[count];
+            final ArrayDeque<Integer> queue = new ArrayDeque<Integer>();
+            for (int c = 0; c < width; c++) {
+                if (trie[c] < 0) {
+                    trie[c] = 0;
+                } else {
+                    queue.add(trie[c]);
+                }
+            }
+            while (!queue.isEmpty()) {
+                final int state = queue.poll();
+                output[state] |= output[fail[state]];
+                for (int c = 0; c < width; c++) {
+                    final int slot = state * width + c;
+                    if (trie[slot] < 0) {
+                        trie[slot] = trie[fail[state] * width + c];
+                    } else {
+                        fail[trie[slot]] = trie[fail[state] * width + c];
+                        queue.add(trie[slot]);
+                    }
+                }
+            }
+            transitions = Arrays.copyOf(trie, count * width);
+            outputs = Arrays.copyOf(output, count);
+        }
+
+        private int column(char c) {
+            if (c < 128) {
+                return asciiColumns[c];
+            }
+            final int index = Arrays.binarySearch(otherChars, c);
+            return index < 0 ? 0 : otherBase + index;
+        }
+
+        long scan(CharSequence value) {
+            long found = 0;
+            int state = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (caseInsensitive) {
+                    c = (char) RegexParser.toAsciiLower(c);
+                }
+                state = transitions[state * width + column(c)];
+                found |= outputs[state];
+            }
+            return found;
+        }
+    }
+}
@@ -11,6 +11,8 @@ package com.alianga.valid.validator;
  * @time 2022/1/3 23:30
  */
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -48,6 +50,17 @@ import java.util.regex.Pattern;
  *     </ul>
  *   </li>
  * </ul>
+ * <p>
+ * 构造时会分析每个正则表达式必须的字面前缀、字面子串与长度范围，校验时先按输入的第一个字符和
+ * 一次多字符串扫描筛选出可能匹配的正则表达式，只执行这些正则表达式，执行顺序与构造时的顺序相同。
+ * </p>
+ * <p>
+ * 默认使用 {@link java.util.regex} 执行匹配，其回溯在最坏情况下的耗时随输入长度指数增长。
+ * 构造时选择 {@link Engine#LINEAR} 后，不含反向引用、环视等特性的正则表达式会编译为按需构造的 DFA，
+ * 耗时与输入长度成线性关系；无法编译的正则表达式仍使用 {@link java.util.regex}，
+ * 原因可以通过 {@link #getFallbackReasons()} 获取。线性引擎按 java.util.regex 的规则模拟匹配与捕获组，
+ * 已知无法模拟的写法在构造时回退，其余情况下两种引擎的结果应当一致，发现不一致时请改用 {@link Engine#JAVA}。
+ * </p>
  *
  * @since 1.0.0
  */
@@ -55,8 +68,21 @@ public class RegexValidator implements Serializable {
 
     private static final long serialVersionUID = -8832409930574867162L;
 
+    private static final String[] NO_GROUPS = new String[0];
+
     private final Pattern[] patterns;
 
+    private final Engine engine;
+
+    private transient volatile RegexPrefilter prefilter;
+
+    /**
+     * 使用 {@link Engine#LINEAR} 时每个正则表达式编译后的程序，无法编译的为 null；使用 {@link Engine#JAVA} 时为 null
+     */
+    private transient volatile LinearRegex[] linearPatterns;
+
+    private transient volatile String[] fallbackReasons;
+
     /**
      * 正则表达式验证器(默认区分大小写)
      * @param regex 此验证器将验证的正则表达式
@@ -92,6 +118,31 @@ public class RegexValidator implements Serializable {
      * @param caseSensitive 区分大小写
      */
     public RegexValidator(String[] regexs, boolean caseSensitive) {
+        this(regexs, caseSensitive, Engine.JAVA);
+    }
+
+    /**
+     * 正则表达式验证器
+     *
+     * @param regex         正则表达式
+     * @param caseSensitive 区分大小写
+     * @param engine        执行匹配的引擎
+     */
+    public RegexValidator(String regex, boolean caseSensitive, Engine engine) {
+        this(new String[] {regex}, caseSensitive, engine);
+    }
+
+    /**
+     * 正则表达式验证器
+     *
+     * @param regexs        正则表达式
+     * @param caseSensitive 区分大小写
+     * @param engine        执行匹配的引擎
+     */
+    public RegexValidator(String[] regexs, boolean caseSensitive, Engine engine) {
+        if (engine == null) {
+            throw new IllegalArgumentException("Engine cannot be null");
+        }
         if (regexs == null || regexs.length == 0) {
             throw new IllegalArgumentException("Regular expressions are missing");
         }
@@ -103,6 +154,8 @@ public class RegexValidator implements Serializable {
             }
             patterns[i] =  Pattern.compile(regexs[i], flags);
         }
+        this.engine = engine;
+        compile(!caseSensitive);
     }
 
     /**
@@ -112,15 +165,7 @@ public class RegexValidator implements Serializable {
      * @return  如果校验通过则返回<code>true</code>，否则返回 <code>false</code>.
      */
     public boolean isValid(String value) {
-        if (value == null) {
-            return false;
-        }
-        for (int i = 0; i < patterns.length; i++) {
-            if (patterns[i].matcher(value).matches()) {
-                return true;
-            }
-        }
-        return false;
+        return value != null && find(value, false) != null;
     }
 
     /**
@@ -133,18 +178,7 @@ public class RegexValidator implements Serializable {
         if (value == null) {
             return null;
         }
-        for (int i = 0; i < patterns.length; i++) {
-            Matcher matcher = patterns[i].matcher(value);
-            if (matcher.matches()) {
-                int count = matcher.groupCount();
-                String[] groups = new String[count];
-                for (int j = 0; j < count; j++) {
-                    groups[j] = matcher.group(j+1);
-                }
-                return groups;
-            }
-        }
-        return null;
+        return find(value, true);
     }
 
 
@@ -158,26 +192,129 @@ public class RegexValidator implements Serializable {
         if (value == null) {
             return null;
         }
-        for (int i = 0; i < patterns.length; i++) {
-            Matcher matcher = patterns[i].matcher(value);
-            if (matcher.matches()) {
-                int count = matcher.groupCount();
-                if (count == 1) {
-                    return matcher.group(1);
+        String[] groups = find(value, true);
+        if (groups == null) {
+            return null;
+        }
+        int count = groups.length;
+        if (count == 1) {
+            return groups[0];
+        }
+        StringBuilder buffer = new StringBuilder();
+        for (int j = 0; j < count; j++) {
+            String component = groups[j];
+            if (component != null) {
+                buffer.append(component);
+            }
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * 按构造时的顺序查找第一个匹配整个值的正则表达式，跳过预筛选排除的正则表达式
+     *
+     * @param value  要验证的值
+     * @param groups 是否需要捕获组
+     * @return 匹配的正则表达式的捕获组，不需要捕获组时为空数组；没有匹配时返回 <code>null</code>
+     */
+    private String[] find(String value, boolean groups) {
+        final RegexPrefilter filter = prefilter;
+        final LinearRegex[] linear = linearPatterns;
+        boolean scanned = false;
+        long found = 0;
+        for (int word = 0; word < filter.wordCount(); word++) {
+            long candidates = filter.candidates(value, word);
+            while (candidates != 0) {
+                final int i = (word << 6) + Long.numberOfTrailingZeros(candidates);
+                candidates &= candidates - 1;
+                if (!filter.accepts(i, value)) {
+                    continue;
+                }
+                if (filter.requiresLiterals(i)) {
+                    if (!scanned) {
+                        found = filter.scanLiterals(value);
+                        scanned = true;
+                    }
+                    if (!filter.hasLiterals(i, found)) {
+                        continue;
+                    }
+                }
+                if (linear != null && linear[i] != null) {
+                    if (!groups) {
+                        if (linear[i].matches(value)) {
+                            return NO_GROUPS;
+                        }
+                        continue;
+                    }
+                    final int[] captures = linear[i].captures(value);
+                    if (captures != null) {
+                        final String[] result = new String[linear[i].getGroupCount()];
+                        for (int j = 0; j < result.length; j++) {
+                            final int start = captures[2 * (j + 1)];
+                            final int end = captures[2 * (j + 1) + 1];
+                            result[j] = start < 0 || end < 0 ? null : value.substring(start, end);
+                        }
+                        return result;
+                    }
+                    continue;
                 }
-                StringBuilder buffer = new StringBuilder();
-                for (int j = 0; j < count; j++) {
-                    String component = matcher.group(j+1);
-                    if (component != null) {
-                        buffer.append(component);
+                Matcher matcher = patterns[i].matcher(value);
+                if (matcher.matches()) {
+                    if (!groups) {
+                        return NO_GROUPS;
+                    }
+                    String[] result = new String[matcher.groupCount()];
+                    for (int j = 0; j < result.length; j++) {
+                        result[j] = matcher.group(j + 1);
                     }
+                    return result;
                 }
-                return buffer.toString();
             }
         }
         return null;
     }
 
+    /**
+     * @return 执行匹配的引擎
+     */
+    public Engine getEngine() {
+        // 旧版本序列化的实例没有这个字段
+        return engine == null ? Engine.JAVA : engine;
+    }
+
+    /**
+     * 使用 {@link Engine#LINEAR} 时，每个正则表达式回退到 {@link java.util.regex} 的原因
+     *
+     * @return 与构造时的正则表达式一一对应，使用线性时间引擎的为 null；使用 {@link Engine#JAVA} 时返回空数组
+     */
+    public String[] getFallbackReasons() {
+        final String[] reasons = fallbackReasons;
+        return reasons == null ? new String[0] : reasons.clone();
+    }
+
+    /*
+     * 构造预筛选与线性时间引擎的程序，反序列化后也需要重新构造
+     */
+    private void compile(boolean caseInsensitive) {
+        prefilter = new RegexPrefilter(patterns, caseInsensitive);
+        if (engine != Engine.LINEAR) {
+            return;
+        }
+        final LinearRegex[] linear = new LinearRegex[patterns.length];
+        final String[] reasons = new String[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            try {
+                final RegexParser parser = new RegexParser(patterns[i].pattern(), caseInsensitive);
+                final RegexNode root = parser.parse();
+                linear[i] = new LinearRegex(root, parser.getGroupCount(), caseInsensitive);
+            } catch (IllegalArgumentException e) {
+                reasons[i] = e.getMessage();
+            }
+        }
+        fallbackReasons = reasons;
+        linearPatterns = linear;
+    }
+
 
     @Override
     public String toString() {
@@ -193,4 +330,23 @@ public class RegexValidator implements Serializable {
         return buffer.toString();
     }
 
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        compile((patterns[0].flags() & Pattern.CASE_INSENSITIVE) != 0);
+    }
+
+    /**
+     * 执行匹配的引擎
+     */
+    public enum Engine {
+        /**
+         * 全部使用 {@link java.util.regex}
+         */
+        JAVA,
+        /**
+         * 尽量使用线性时间的 DFA，不支持的正则表达式回退到 {@link java.util.regex}
+         */
+        LINEAR
+    }
+
 }
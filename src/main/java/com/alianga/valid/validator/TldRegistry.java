@@ -0,0 +1,194 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 14:20.
+ */
+package com.alianga.valid.validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>可热加载的顶级域名注册表</p>
+ * 所有 {@link DomainValidator} 实例共享同一份 TLD 查找表。默认使用内置的 TLD 列表，
+ * 可以随时从本地文件或 classpath 资源加载 IANA 发布的 <code>tlds-alpha-by-domain.txt</code> 格式的列表，
+ * 新的查找表在调用线程中构造完成后以原子方式替换旧表（写时复制），并递增版本号。
+ * 校验时只需要一次 volatile 读，不受加载过程影响。
+ * <p>
+ * 例如:
+ * <p>
+ * {@code TldRegistry.load(Paths.get("/etc/iana/tlds-alpha-by-domain.txt"))}
+ * <p>
+ * IANA 列表不区分 TLD 的类别，加载时按如下规则归类：
+ * <ul>
+ * <li>{@code arpa} 为基础设施 TLD</li>
+ * <li>两个字母的 TLD 以及内置列表中已知的国际化国家/地区代码 TLD 为国家/地区代码 TLD</li>
+ * <li>其余均为通用 TLD</li>
+ * </ul>
+ * 内置的本地 TLD（localhost、localdomain）不在 IANA 列表中，加载后仍然保留。
+ * 通过 {@link DomainValidator#updateTLDOverride(DomainValidator.ArrayType, String[])}
+ * 或 {@link DomainValidator.Item} 设置的覆盖数组独立于注册表，加载新列表后依然生效。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 14:20
+ */
+public final class TldRegistry {
+
+    private static final String INFRASTRUCTURE_TLD = "arpa";
+
+    private static final AtomicReference<Snapshot> CURRENT =
+            new AtomicReference<Snapshot>(new Snapshot(TldTable.builtin(), 0L));
+
+    private TldRegistry() {
+    }
+
+    /**
+     * 查找表及其版本号
+     */
+    private static final class Snapshot {
+        final TldTable table;
+        final long version;
+
+        Snapshot(TldTable table, long version) {
+            this.table = table;
+            this.version = version;
+        }
+    }
+
+    /**
+     * @return 当前使用的查找表
+     */
+    static TldTable table() {
+        return CURRENT.get().table;
+    }
+
+    /**
+     * 获取当前查找表的版本号。内置列表的版本号为 0，每次加载或重置后加 1。
+     *
+     * @return 当前查找表的版本号
+     */
+    public static long getVersion() {
+        return CURRENT.get().version;
+    }
+
+    /**
+     * @return 当前查找表中 TLD 的数量（包括本地 TLD）
+     */
+    public static int size() {
+        return table().size();
+    }
+
+    /**
+     * 从本地文件加载 IANA 格式的 TLD 列表并替换当前查找表
+     *
+     * @param file IANA 格式的 TLD 列表文件
+     * @return 新查找表的版本号
+     * @throws IOException              读取文件失败
+     * @throws IllegalArgumentException 列表中包含不合法的 TLD
+     */
+    public static long load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return load(in);
+        }
+    }
+
+    /**
+     * 从 classpath 资源加载 IANA 格式的 TLD 列表并替换当前查找表
+     *
+     * @param resource 资源名称，例如 {@code "iana/tlds-alpha-by-domain.txt"}
+     * @return 新查找表的版本号
+     * @throws IOException              资源不存在或读取失败
+     * @throws IllegalArgumentException 列表中包含不合法的 TLD
+     */
+    public static long loadResource(String resource) throws IOException {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = TldRegistry.class.getClassLoader();
+        }
+        InputStream in = loader.getResourceAsStream(resource);
+        if (in == null) {
+            throw new IOException("Resource not found: " + resource);
+        }
+        try {
+            return load(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * 从输入流加载 IANA 格式的 TLD 列表并替换当前查找表，输入流由调用者负责关闭
+     *
+     * @param in IANA 格式的 TLD 列表
+     * @return 新查找表的版本号
+     * @throws IOException              读取失败
+     * @throws IllegalArgumentException 列表中包含不合法的 TLD
+     */
+    public static long load(InputStream in) throws IOException {
+        return install(parse(in));
+    }
+
+    /**
+     * 恢复为内置的 TLD 列表
+     *
+     * @return 新查找表的版本号
+     */
+    public static long reset() {
+        return install(TldTable.builtin());
+    }
+
+    private static long install(TldTable table) {
+        while (true) {
+            Snapshot current = CURRENT.get();
+            Snapshot updated = new Snapshot(table, current.version + 1);
+            if (CURRENT.compareAndSet(current, updated)) {
+                return updated.version;
+            }
+        }
+    }
+
+    /**
+     * 解析 IANA 格式的 TLD 列表：每行一个 TLD，以 # 开头的行为注释
+     */
+    static TldTable parse(InputStream in) throws IOException {
+        final TldTable builtin = TldTable.builtin();
+        final List<String> infrastructure = new ArrayList<String>();
+        final List<String> generic = new ArrayList<String>();
+        final List<String> countryCode = new ArrayList<String>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            final String tld = line.toLowerCase(Locale.ENGLISH);
+            if (!DomainNameScanner.isTopLabel(tld, 0, tld.length())) {
+                throw new IllegalArgumentException("Invalid TLD at line " + lineNumber + ": " + line);
+            }
+            if (INFRASTRUCTURE_TLD.equals(tld)) {
+                infrastructure.add(tld);
+            } else if (tld.length() == 2 || builtin.lookup(tld, 0, tld.length()) == TldTable.COUNTRY_CODE) {
+                countryCode.add(tld);
+            } else {
+                generic.add(tld);
+            }
+        }
+        return TldTable.build(toArray(infrastructure), toArray(generic), toArray(countryCode),
+                builtin.entries(TldTable.LOCAL));
+    }
+
+    private static String[] toArray(List<String> list) {
+        return list.toArray(new String[list.size()]);
+    }
+}
@@ -0,0 +1,443 @@
+/**
+ * Created by 郑明亮 on 2026/10/18 10:12.
+ */
+package com.alianga.valid.validator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <p>顶级域名查找表</p>
+ * 使用 hash-and-displace 方式构造的最小完美哈希：所有 TLD 的 ASCII 字节首尾相连地存放在一个字节数组中，
+ * 查找时计算一次哈希、读取一次桶位移、定位到唯一的槽位，再做一次逐字节比较即可得到该 TLD 所属的类别，
+ * 不再需要对每张表分别做二分查找。
+ * <p>
+ * 内置的 TLD 列表保存在 classpath 资源 <code>tlds.txt</code> 中，首次调用 {@link #builtin()} 时才会加载，
+ * 加载时直接把资源中的字节复制到查找表，不为每个 TLD 创建字符串。
+ * <p>
+ * 实例创建后不可变，可以在多个线程之间安全共享。
+ *
+ * @author 郑明亮
+ * @version 1.0.0
+ * @time 2026/10/18 10:12
+ */
+final class TldTable {
+
+    /**
+     * 查找失败
+     */
+    static final byte NONE = 0;
+
+    static final byte INFRASTRUCTURE = 1;
+
+    static final byte GENERIC = 2;
+
+    static final byte COUNTRY_CODE = 3;
+
+    static final byte LOCAL = 4;
+
+    private static final int FNV_OFFSET_BASIS = 0x811C9DC5;
+
+    private static final int FNV_PRIME = 0x01000193;
+
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    // 每个桶平均容纳的键数量
+    private static final int KEYS_PER_BUCKET = 4;
+
+    // 单个桶尝试的位移次数上限，超过后扩大槽位表重新构造
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+
+    /**
+     * 所有 TLD 的小写 ASCII 字节，首尾相连
+     */
+    private final byte[] keys;
+
+    /**
+     * 第 i 个 TLD 在 {@link #keys} 中的起始位置，最后一个元素为 keys.length
+     */
+    private final int[] offsets;
+
+    /**
+     * 第 i 个 TLD 的类别
+     */
+    private final byte[] types;
+
+    /**
+     * 每个桶的位移
+     */
+    private final int[] displacements;
+
+    /**
+     * 槽位对应的 TLD 下标，空槽位为 -1
+     */
+    private final int[] slots;
+
+    private final int bucketShift;
+
+    private static final String BUILTIN_RESOURCE = "tlds.txt";
+
+    private static final String[] SECTIONS = {"[infrastructure]", "[generic]", "[country-code]", "[local]"};
+
+    private static final byte[] SECTION_TYPES = {INFRASTRUCTURE, GENERIC, COUNTRY_CODE, LOCAL};
+
+    private static class BuiltinHolder { // IODH
+        private static final TldTable BUILTIN = loadBuiltin();
+    }
+
+    private TldTable(byte[] keys, int[] offsets, byte[] types) {
+        this.keys = keys;
+        this.offsets = offsets;
+        this.types = types;
+        final int count = types.length;
+        int bucketBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, count / KEYS_PER_BUCKET)));
+        int slotCount = Integer.highestOneBit(Math.max(1, count - 1)) << 1;
+        int[][] table;
+        while ((table = place(bucketBits, slotCount)) == null) {
+            slotCount <<= 1;
+        }
+        this.bucketShift = 32 - bucketBits;
+        this.displacements = table[0];
+        this.slots = table[1];
+    }
+
+    /**
+     * 根据各类别的 TLD 数组构造查找表，数组中的元素必须是小写 ASCII，且在所有数组中唯一
+     *
+     * @param infrastructure 基础设施类 TLD
+     * @param generic        通用类 TLD
+     * @param countryCode    国家/地区代码类 TLD
+     * @param local          本地 TLD
+     * @return 查找表
+     * @throws IllegalArgumentException 如果某个 TLD 重复出现或含有非 ASCII 字符
+     */
+    static TldTable build(String[] infrastructure, String[] generic, String[] countryCode, String[] local) {
+        final String[][] tables = {infrastructure, generic, countryCode, local};
+        final byte[] categories = {INFRASTRUCTURE, GENERIC, COUNTRY_CODE, LOCAL};
+        int count = 0;
+        int length = 0;
+        for (String[] table : tables) {
+            count += table.length;
+            for (String tld : table) {
+                length += tld.length();
+            }
+        }
+        byte[] keys = new byte[length];
+        int[] offsets = new int[count + 1];
+        byte[] types = new byte[count];
+        int index = 0;
+        int position = 0;
+        for (int t = 0; t < tables.length; t++) {
+            for (String tld : tables[t]) {
+                offsets[index] = position;
+                types[index] = categories[t];
+                for (int i = 0; i < tld.length(); i++) {
+                    char c = tld.charAt(i);
+                    if (c > 0x7F) { // CHECKSTYLE IGNORE MagicNumber
+                        throw new IllegalArgumentException("TLD must be ASCII: " + tld);
+                    }
+                    keys[position++] = (byte) c;
+                }
+                index++;
+            }
+        }
+        offsets[count] = position;
+        return new TldTable(keys, offsets, types);
+    }
+
+    /**
+     * @return 内置的 TLD 查找表
+     */
+    static TldTable builtin() {
+        return BuiltinHolder.BUILTIN;
+    }
+
+    private static TldTable loadBuiltin() {
+        final InputStream in = TldTable.class.getResourceAsStream(BUILTIN_RESOURCE);
+        if (in == null) {
+            throw new IllegalStateException("Missing built-in TLD list: " + BUILTIN_RESOURCE);
+        }
+        try {
+            try {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 17);
+                byte[] chunk = new byte[8192];
+                int n;
+                while ((n = in.read(chunk)) > 0) {
+                    buffer.write(chunk, 0, n);
+                }
+                return parse(buffer.toByteArray());
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read built-in TLD list: " + BUILTIN_RESOURCE, e);
+        }
+    }
+
+    /**
+     * 解析 <code>tlds.txt</code> 格式的内容：每行一个小写的 TLD，# 之后为注释，
+     * [infrastructure]、[generic]、[country-code]、[local] 开始对应类别的 TLD
+     *
+     * @param data 资源的内容
+     * @return 查找表
+     * @throws IllegalArgumentException 内容格式不正确
+     */
+    static TldTable parse(byte[] data) {
+        // TLD 的字节总数不会超过资源本身的大小，条目数量不超过行数
+        int lines = 1;
+        for (byte b : data) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+        byte[] keys = new byte[data.length];
+        int[] offsets = new int[lines + 1];
+        byte[] types = new byte[lines];
+        int count = 0;
+        int position = 0;
+        byte type = NONE;
+        int lineStart = 0;
+        while (lineStart < data.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < data.length && data[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int start = lineStart;
+            while (start < lineEnd && isBlank(data[start])) {
+                start++;
+            }
+            int end = start;
+            while (end < lineEnd && !isBlank(data[end]) && data[end] != '#') {
+                end++;
+            }
+            if (end > start) {
+                if (data[start] == '[') {
+                    type = section(data, start, end);
+                } else {
+                    if (type == NONE) {
+                        throw new IllegalArgumentException("TLD outside of a section: "
+                                + new String(data, start, end - start, StandardCharsets.US_ASCII));
+                    }
+                    offsets[count] = position;
+                    types[count++] = type;
+                    for (int i = start; i < end; i++) {
+                        final byte b = data[i];
+                        if (b < 0 || b != toLowerCase((char) b)) {
+                            throw new IllegalArgumentException("TLD must be lower case ASCII: "
+                                    + new String(data, start, end - start, StandardCharsets.UTF_8));
+                        }
+                        keys[position++] = b;
+                    }
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        offsets[count] = position;
+        return new TldTable(Arrays.copyOf(keys, position), Arrays.copyOf(offsets, count + 1),
+                Arrays.copyOf(types, count));
+    }
+
+    private static byte section(byte[] data, int start, int end) {
+        final String name = new String(data, start, end - start, StandardCharsets.US_ASCII);
+        for (int i = 0; i < SECTIONS.length; i++) {
+            if (SECTIONS[i].equals(name)) {
+                return SECTION_TYPES[i];
+            }
+        }
+        throw new IllegalArgumentException("Unknown section: " + name);
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    /**
+     * 查找 TLD 的类别。比较时忽略 ASCII 字母的大小写，非 ASCII 字符不会匹配任何 TLD。
+     *
+     * @param key   包含 TLD 的字符序列，不含前导点
+     * @param start TLD 的起始位置（包含）
+     * @param end   TLD 的结束位置（不包含）
+     * @return TLD 的类别，不存在时返回 {@link #NONE}
+     */
+    byte lookup(CharSequence key, int start, int end) {
+        int hash = FNV_OFFSET_BASIS;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ toLowerCase(key.charAt(i))) * FNV_PRIME;
+        }
+        final int mixed = mix(hash);
+        final int index = slots[mix(hash ^ displacements[mixed >>> bucketShift] * GOLDEN_RATIO) & (slots.length - 1)];
+        if (index < 0) {
+            return NONE;
+        }
+        final int offset = offsets[index];
+        if (offsets[index + 1] - offset != end - start) {
+            return NONE;
+        }
+        for (int i = start; i < end; i++) {
+            if (toLowerCase(key.charAt(i)) != keys[offset + i - start]) {
+                return NONE;
+            }
+        }
+        return types[index];
+    }
+
+    /**
+     * 只转换 ASCII 大写字母，与 {@code String.toLowerCase(Locale.ENGLISH)} 对 ASCII 字符的处理一致
+     */
+    static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * @return 表中 TLD 的数量
+     */
+    int size() {
+        return types.length;
+    }
+
+    /**
+     * 获取指定类别的全部 TLD
+     *
+     * @param type TLD 的类别
+     * @return 按字典序排序的 TLD 数组
+     */
+    String[] entries(byte type) {
+        int count = 0;
+        for (byte t : types) {
+            if (t == type) {
+                count++;
+            }
+        }
+        String[] result = new String[count];
+        int n = 0;
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == type) {
+                result[n++] = new String(keys, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.US_ASCII);
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * 尝试为每个桶找到一个位移，使得所有键落在互不冲突的槽位上
+     *
+     * @return {位移数组, 槽位数组}，找不到时返回 null
+     */
+    private int[][] place(int bucketBits, int slotCount) {
+        final int count = types.length;
+        final int bucketCount = 1 << bucketBits;
+        final int mask = slotCount - 1;
+        int[] hashes = new int[count];
+        int[] bucketSizes = new int[bucketCount];
+        for (int i = 0; i < count; i++) {
+            int hash = FNV_OFFSET_BASIS;
+            for (int p = offsets[i]; p < offsets[i + 1]; p++) {
+                hash = (hash ^ keys[p]) * FNV_PRIME;
+            }
+            hashes[i] = hash;
+            bucketSizes[mix(hash) >>> (32 - bucketBits)]++;
+        }
+        // 按桶分组，较大的桶优先放置
+        int[][] buckets = new int[bucketCount][];
+        for (int b = 0; b < bucketCount; b++) {
+            buckets[b] = new int[bucketSizes[b]];
+        }
+        int[] fill = new int[bucketCount];
+        for (int i = 0; i < count; i++) {
+            int b = mix(hashes[i]) >>> (32 - bucketBits);
+            // 相同的键必然落在同一个桶中，且永远无法放置
+            for (int k = 0; k < fill[b]; k++) {
+                if (sameKey(buckets[b][k], i)) {
+                    throw new IllegalArgumentException("Duplicate TLD: "
+                            + new String(keys, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.US_ASCII));
+                }
+            }
+            buckets[b][fill[b]++] = i;
+        }
+        // 按桶的大小计数排序，避免在类加载阶段引入 lambda 与装箱
+        int maxSize = 0;
+        for (int size : bucketSizes) {
+            maxSize = Math.max(maxSize, size);
+        }
+        int[] starts = new int[maxSize + 2];
+        for (int size : bucketSizes) {
+            starts[maxSize - size + 1]++;
+        }
+        for (int i = 1; i < starts.length; i++) {
+            starts[i] += starts[i - 1];
+        }
+        int[] order = new int[bucketCount];
+        for (int b = 0; b < bucketCount; b++) {
+            order[starts[maxSize - bucketSizes[b]]++] = b;
+        }
+
+        int[] displacements = new int[bucketCount];
+        int[] slots = new int[slotCount];
+        Arrays.fill(slots, -1);
+        int[] candidate = new int[KEYS_PER_BUCKET * 4];
+        for (int b : order) {
+            int[] bucket = buckets[b];
+            if (bucket.length == 0) {
+                break;
+            }
+            if (candidate.length < bucket.length) {
+                candidate = new int[bucket.length];
+            }
+            boolean placed = false;
+            for (int d = 0; d < MAX_DISPLACEMENT && !placed; d++) {
+                placed = true;
+                for (int k = 0; k < bucket.length && placed; k++) {
+                    int slot = mix(hashes[bucket[k]] ^ d * GOLDEN_RATIO) & mask;
+                    if (slots[slot] >= 0) {
+                        placed = false;
+                    }
+                    for (int j = 0; j < k && placed; j++) {
+                        if (candidate[j] == slot) {
+                            placed = false;
+                        }
+                    }
+                    candidate[k] = slot;
+                }
+                if (placed) {
+                    displacements[b] = d;
+                    for (int k = 0; k < bucket.length; k++) {
+                        slots[candidate[k]] = bucket[k];
+                    }
+                }
+            }
+            if (!placed) {
+                return null;
+            }
+        }
+        return new int[][]{displacements, slots};
+    }
+
+    private boolean sameKey(int a, int b) {
+        final int length = offsets[a + 1] - offsets[a];
+        if (offsets[b + 1] - offsets[b] != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (keys[offsets[a] + i] != keys[offsets[b] + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * MurmurHash3 的 fmix32
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}